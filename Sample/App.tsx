@@ -1,6 +1,6 @@
 import React, { useCallback, useEffect, useState } from 'react';
-import { Alert, Button, Modal, SafeAreaView, StatusBar, Text, View } from 'react-native';
-import PdfRendererView from 'react-native-pdf-renderer';
+import { Alert, Button, Modal, Platform, SafeAreaView, StatusBar, Text, View } from 'react-native';
+import PdfRendererView, { renderPages } from 'react-native-pdf-renderer';
 import * as FileSystem from 'expo-file-system';
 // import ReactNativeBlobUtil from 'react-native-blob-util';
 
@@ -8,6 +8,24 @@ const PDF_URL = 'https://github.com/douglasjunior/react-native-pdf-renderer/raw/
 // const PDF_URL = 'https://github.com/ArturT/Test-PDF-Files/raw/refs/heads/master/not_encrypted.pdf'; // 1 pages
 // const PDF_URL = 'https://github.com/ArturT/Test-PDF-Files/raw/refs/heads/master/corrupted.pdf'; // corrupted
 
+const BENCHMARK_PAGES = 24;
+const BENCHMARK_THREADS = [1, 2, 4, 8];
+
+/**
+ * Manual tool: exports the same pages with an increasing number of render threads and shows the throughput
+ * measured on the device. No reference numbers are recorded, the scaling depends on the cores and memory of each device.
+ */
+const runRenderThreadsBenchmark = async (source: string) => {
+  const results: string[] = [];
+  for (const renderThreads of BENCHMARK_THREADS) {
+    const startTime = Date.now();
+    await renderPages(source, { first: 0, last: BENCHMARK_PAGES - 1 }, 144, 'jpeg', undefined, renderThreads).promise;
+    const seconds = (Date.now() - startTime) / 1000;
+    results.push(`${renderThreads} thread(s): ${(BENCHMARK_PAGES / seconds).toFixed(1)} pages/s`);
+  }
+  console.log('renderThreads benchmark', results);
+  Alert.alert('Render threads benchmark', results.join('\n'));
+};
 
 const PdfView = ({ source }: { source: string }) => {
   const [totalPages, setTotalPages] = useState(0);
@@ -20,6 +38,12 @@ const PdfView = ({ source }: { source: string }) => {
         title="Single Page"
         onPress={() => setSinglePage(prev => !prev)}
       />
+      {Platform.OS === 'android' && (
+        <Button
+          title="Benchmark render threads"
+          onPress={() => runRenderThreadsBenchmark(source).catch(console.warn)}
+        />
+      )}
       <PdfRendererView
         style={{ backgroundColor: 'red' }}
         source={source}
@@ -0,0 +1,201 @@
+// MIT License
+
+// Copyright (c) 2026 Douglas Nassif Roma Junior
+
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.github.douglasjunior.reactNativePdfRenderer;
+
+import android.graphics.RectF;
+import android.net.Uri;
+import android.text.TextUtils;
+
+import androidx.annotation.NonNull;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.Promise;
+import com.facebook.react.bridge.ReactApplicationContext;
+import com.facebook.react.modules.core.DeviceEventManagerModule;
+import com.github.douglasjunior.reactNativePdfRenderer.modules.PageExporter;
+import com.github.douglasjunior.reactNativePdfRenderer.modules.PdfSource;
+import com.github.douglasjunior.reactNativePdfRenderer.modules.TextSearch;
+import com.github.douglasjunior.reactNativePdfRenderer.modules.ThumbnailGenerator;
+
+import java.io.File;
+import java.util.List;
+
+public class PdfRendererModuleImpl {
+    public static final String REACT_MODULE_NAME = "RNPdfRendererModule";
+    private static final String ON_RENDER_PAGES_PROGRESS_EVENT = "RNPdfRendererRenderPagesProgress";
+    private static final String ON_SEARCH_RESULT_EVENT = "RNPdfRendererSearchResult";
+
+    private final ReactApplicationContext mReactApplicationContext;
+    private final ThumbnailGenerator mThumbnailGenerator;
+    private final PageExporter mPageExporter;
+    private final TextSearch mTextSearch;
+
+    public PdfRendererModuleImpl(ReactApplicationContext reactApplicationContext) {
+        mReactApplicationContext = reactApplicationContext;
+        var cacheDir = new File(reactApplicationContext.getCacheDir(), "pdf-renderer");
+        mThumbnailGenerator = new ThumbnailGenerator(new File(cacheDir, "thumbnails"));
+        mPageExporter = new PageExporter(new File(cacheDir, "exports"));
+        mTextSearch = new TextSearch(new File(cacheDir, "text"));
+    }
+
+    public void generateThumbnail(String source, double page, double width, Promise promise) {
+        if (TextUtils.isEmpty(source)) {
+            promise.reject("E_INVALID_SOURCE", "The source is empty");
+            return;
+        }
+        var pdfSource = PdfSource.from(mReactApplicationContext, source);
+
+        mThumbnailGenerator.generate(pdfSource, (int) page, (int) width, new ThumbnailGenerator.Callback() {
+            @Override
+            public void onSuccess(@NonNull File thumbnail) {
+                promise.resolve(Uri.fromFile(thumbnail).toString());
+            }
+
+            @Override
+            public void onError(@NonNull Exception e) {
+                promise.reject("E_THUMBNAIL", e.getMessage(), e);
+            }
+        });
+    }
+
+    public void renderPages(double jobId, String source, double firstPage, double lastPage, double dpi, String format, double renderThreads, Promise promise) {
+        if (TextUtils.isEmpty(source)) {
+            promise.reject("E_INVALID_SOURCE", "The source is empty");
+            return;
+        }
+        var pdfSource = PdfSource.from(mReactApplicationContext, source);
+
+        mPageExporter.export((int) jobId, pdfSource, (int) firstPage, (int) lastPage, (float) dpi, format, (int) renderThreads, new PageExporter.Callback() {
+            @Override
+            public void onProgress(int page, int completed, int total, @NonNull File image) {
+                var data = Arguments.createMap();
+                data.putInt("jobId", (int) jobId);
+                data.putInt("page", page);
+                data.putInt("completed", completed);
+                data.putInt("total", total);
+                data.putString("uri", Uri.fromFile(image).toString());
+                mReactApplicationContext
+                        .getJSModule(DeviceEventManagerModule.RCTDeviceEventEmitter.class)
+                        .emit(ON_RENDER_PAGES_PROGRESS_EVENT, data);
+            }
+
+            @Override
+            public void onComplete(@NonNull List<File> images) {
+                var uris = Arguments.createArray();
+                for (var image : images) {
+                    uris.pushString(Uri.fromFile(image).toString());
+                }
+                promise.resolve(uris);
+            }
+
+            @Override
+            public void onCancel() {
+                promise.reject("E_CANCELLED", "The render was cancelled");
+            }
+
+            @Override
+            public void onError(@NonNull Exception e) {
+                promise.reject("E_RENDER_PAGES", e.getMessage(), e);
+            }
+        });
+    }
+
+    public void cancelRenderPages(double jobId) {
+        mPageExporter.cancel((int) jobId);
+    }
+
+    public void getPageText(String source, double page, Promise promise) {
+        if (TextUtils.isEmpty(source)) {
+            promise.reject("E_INVALID_SOURCE", "The source is empty");
+            return;
+        }
+        var pdfSource = PdfSource.from(mReactApplicationContext, source);
+
+        mTextSearch.getPageText(pdfSource, (int) page, new TextSearch.TextCallback() {
+            @Override
+            public void onSuccess(@NonNull String text) {
+                promise.resolve(text);
+            }
+
+            @Override
+            public void onError(@NonNull Exception e) {
+                promise.reject("E_PAGE_TEXT", e.getMessage(), e);
+            }
+        });
+    }
+
+    public void search(double searchId, String source, String query, Promise promise) {
+        if (TextUtils.isEmpty(source)) {
+            promise.reject("E_INVALID_SOURCE", "The source is empty");
+            return;
+        }
+        var pdfSource = PdfSource.from(mReactApplicationContext, source);
+
+        mTextSearch.search((int) searchId, pdfSource, query, new TextSearch.SearchCallback() {
+            @Override
+            public void onPage(int page, @NonNull List<RectF> rects) {
+                var hits = Arguments.createArray();
+                for (var rect : rects) {
+                    var hit = Arguments.createMap();
+                    hit.putDouble("x", rect.left);
+                    hit.putDouble("y", rect.top);
+                    hit.putDouble("width", rect.width());
+                    hit.putDouble("height", rect.height());
+                    hits.pushMap(hit);
+                }
+                var data = Arguments.createMap();
+                data.putInt("searchId", (int) searchId);
+                data.putInt("page", page);
+                data.putArray("rects", hits);
+                mReactApplicationContext
+                        .getJSModule(DeviceEventManagerModule.RCTDeviceEventEmitter.class)
+                        .emit(ON_SEARCH_RESULT_EVENT, data);
+            }
+
+            @Override
+            public void onComplete(int hitPages) {
+                promise.resolve(hitPages);
+            }
+
+            @Override
+            public void onCancel() {
+                promise.reject("E_CANCELLED", "The search was cancelled");
+            }
+
+            @Override
+            public void onError(@NonNull Exception e) {
+                promise.reject("E_SEARCH", e.getMessage(), e);
+            }
+        });
+    }
+
+    public void cancelSearch(double searchId) {
+        mTextSearch.cancel((int) searchId);
+    }
+
+    public void invalidate() {
+        mThumbnailGenerator.release();
+        mPageExporter.release();
+        mTextSearch.release();
+    }
+}
@@ -31,6 +31,8 @@ import com.facebook.react.bridge.ReactApplicationContext;
 import com.facebook.react.module.model.ReactModuleInfo;
 import com.facebook.react.module.model.ReactModuleInfoProvider;
 import com.facebook.react.uimanager.ViewManager;
+import com.github.douglasjunior.reactNativePdfRenderer.modules.DocumentRegistry;
+import com.github.douglasjunior.reactNativePdfRenderer.modules.PdfRendererModule;
 import com.github.douglasjunior.reactNativePdfRenderer.modules.PdfRendererViewManager;
 
 import java.util.Collections;
@@ -39,6 +41,20 @@ import java.util.List;
 import java.util.Map;
 
 public class PdfRendererPackage extends BaseReactPackage {
+    /**
+     * Process-wide, so the documents are shared by all the viewers even across React instances.
+     */
+    private static DocumentRegistry sDocumentRegistry;
+
+    /**
+     * Must be called from the main thread.
+     */
+    public static DocumentRegistry getDocumentRegistry() {
+        if (sDocumentRegistry == null) {
+            sDocumentRegistry = new DocumentRegistry();
+        }
+        return sDocumentRegistry;
+    }
 
     @Nullable
     @Override
@@ -46,6 +62,9 @@ public class PdfRendererPackage extends BaseReactPackage {
         if (PdfRendererViewManagerImpl.REACT_MODULE_NAME.equals(s)) {
             return new PdfRendererViewManager(reactApplicationContext);
         }
+        if (PdfRendererModuleImpl.REACT_MODULE_NAME.equals(s)) {
+            return new PdfRendererModule(reactApplicationContext);
+        }
         return null;
     }
 
@@ -67,6 +86,14 @@ public class PdfRendererPackage extends BaseReactPackage {
                     false,                                  // isCxxModule
                     false                                   // isTurboModule
             ));
+            map.put(PdfRendererModuleImpl.REACT_MODULE_NAME, new ReactModuleInfo(
+                    PdfRendererModuleImpl.REACT_MODULE_NAME, // name
+                    PdfRendererModuleImpl.REACT_MODULE_NAME, // className
+                    false,                                  // canOverrideExistingModule
+                    false,                                  // needsEagerInit
+                    false,                                  // isCxxModule
+                    BuildConfig.IS_NEW_ARCHITECTURE_ENABLED // isTurboModule
+            ));
             return map;
         };
     }
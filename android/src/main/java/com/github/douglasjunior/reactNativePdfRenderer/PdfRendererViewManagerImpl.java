@@ -26,15 +26,16 @@ import android.text.TextUtils;
 import android.view.View;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.ReadableArray;
 import com.facebook.react.bridge.ReadableMap;
 import com.facebook.react.bridge.WritableMap;
 import com.facebook.react.uimanager.events.Event;
 import com.github.douglasjunior.reactNativePdfRenderer.modules.PdfRendererRecyclerView;
+import com.github.douglasjunior.reactNativePdfRenderer.modules.RenderStats;
 
-import java.io.File;
-import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -42,6 +43,12 @@ public class PdfRendererViewManagerImpl {
     public static final String REACT_MODULE_NAME = "RNPdfRendererView";
     private static final String ON_PAGE_CHANGE_EVENT = "onPageChange";
     private static final String ON_ERROR_EVENT = "onError";
+    private static final String ON_LOAD_START_EVENT = "onLoadStart";
+    private static final String ON_LOAD_COMPLETE_EVENT = "onLoadComplete";
+    private static final String ON_RENDER_STATS_EVENT = "onRenderStats";
+    private static final String ON_MEMORY_BUDGET_CHANGE_EVENT = "onMemoryBudgetChange";
+    private static final String ON_VIEWPORT_CHANGE_EVENT = "onViewportChange";
+    private static final String SCROLL_TO_PAGE_COMMAND = "scrollToPage";
 
     public static Map<String, Object> getExportedCustomBubblingEventTypeConstants() {
         return new HashMap<>() {{
@@ -55,6 +62,31 @@ public class PdfRendererViewManagerImpl {
                     put("bubbled", ON_ERROR_EVENT);
                 }});
             }});
+            put(ON_LOAD_START_EVENT, new HashMap<>() {{
+                put("phasedRegistrationNames", new HashMap<String, String>() {{
+                    put("bubbled", ON_LOAD_START_EVENT);
+                }});
+            }});
+            put(ON_LOAD_COMPLETE_EVENT, new HashMap<>() {{
+                put("phasedRegistrationNames", new HashMap<String, String>() {{
+                    put("bubbled", ON_LOAD_COMPLETE_EVENT);
+                }});
+            }});
+            put(ON_RENDER_STATS_EVENT, new HashMap<>() {{
+                put("phasedRegistrationNames", new HashMap<String, String>() {{
+                    put("bubbled", ON_RENDER_STATS_EVENT);
+                }});
+            }});
+            put(ON_MEMORY_BUDGET_CHANGE_EVENT, new HashMap<>() {{
+                put("phasedRegistrationNames", new HashMap<String, String>() {{
+                    put("bubbled", ON_MEMORY_BUDGET_CHANGE_EVENT);
+                }});
+            }});
+            put(ON_VIEWPORT_CHANGE_EVENT, new HashMap<>() {{
+                put("phasedRegistrationNames", new HashMap<String, String>() {{
+                    put("bubbled", ON_VIEWPORT_CHANGE_EVENT);
+                }});
+            }});
         }};
     }
 
@@ -66,27 +98,38 @@ public class PdfRendererViewManagerImpl {
         var maxZoom = params.hasKey("maxZoom") ? Double.valueOf(params.getDouble("maxZoom")).floatValue() : 5;
 
         if (TextUtils.isEmpty(source)) return;
-        var file = new File(source.replace("file://", ""));
+        view.resolveSource(source, pdfSource -> {
+            // Only reconfigures what changed, so layout changes do not open the document again or flush the rendered pages
+            var sourceChanged = !pdfSource.getIdentity().equals(view.getSourceIdentity());
+            var wasSinglePage = view.isSinglePage();
+            var singlePageChanged = singlePage != wasSinglePage;
 
-        view.post(() -> {
-            try {
+            if (singlePageChanged) {
                 view.setSinglePage(singlePage);
-                view.setMaxZoom(maxZoom);
                 view.setOverScrollMode(singlePage ? View.OVER_SCROLL_NEVER : View.OVER_SCROLL_IF_CONTENT_SCROLLS);
+            }
+            if (maxZoom != view.getMaxZoom()) {
+                view.setMaxZoom(maxZoom);
+            }
 
-                view.updateSource(file);
-
-                view.forceRequestLayout();
-            } catch (IOException e) {
-                if (BuildConfig.DEBUG) {
-                    // noinspection CallToPrintStackTrace
-                    e.printStackTrace();
-                }
-                errorCallback.run();
+            if (sourceChanged) {
+                view.updateSource(pdfSource, errorCallback);
+            } else if (singlePageChanged) {
+                view.invalidatePageLayout(wasSinglePage);
+            } else {
+                return;
             }
+
+            view.forceRequestLayout();
         });
     }
 
+    public static void receiveCommand(PdfRendererRecyclerView view, String commandId, @Nullable ReadableArray args) {
+        if (SCROLL_TO_PAGE_COMMAND.equals(commandId) && args != null) {
+            view.scrollToPage(args.getInt(0), args.getBoolean(1));
+        }
+    }
+
     public static Event<?> createOnPageChangeEvent(int surfaceId, int targetId, int position, int total) {
         return new Event(surfaceId, targetId) {
             @NonNull
@@ -105,6 +148,107 @@ public class PdfRendererViewManagerImpl {
         };
     }
 
+    public static Event<?> createOnLoadStartEvent(int surfaceId, int targetId) {
+        return new Event(surfaceId, targetId) {
+            @NonNull
+            @Override
+            public String getEventName() {
+                return ON_LOAD_START_EVENT;
+            }
+        };
+    }
+
+    public static Event<?> createOnLoadCompleteEvent(int surfaceId, int targetId, int totalPages, long openMillis) {
+        return new Event(surfaceId, targetId) {
+            @NonNull
+            @Override
+            public String getEventName() {
+                return ON_LOAD_COMPLETE_EVENT;
+            }
+
+            @Override
+            protected WritableMap getEventData() {
+                var data = Arguments.createMap();
+                data.putInt("totalPages", totalPages);
+                data.putDouble("openMillis", openMillis);
+                return data;
+            }
+        };
+    }
+
+    public static Event<?> createOnRenderStatsEvent(int surfaceId, int targetId, RenderStats.Snapshot stats) {
+        return new Event(surfaceId, targetId) {
+            @NonNull
+            @Override
+            public String getEventName() {
+                return ON_RENDER_STATS_EVENT;
+            }
+
+            @Override
+            protected WritableMap getEventData() {
+                var histogram = Arguments.createArray();
+                for (var count : stats.renderLatencyHistogram) {
+                    histogram.pushInt(count);
+                }
+                var data = Arguments.createMap();
+                data.putDouble("openMillis", stats.openMillis);
+                data.putArray("renderLatencyHistogram", histogram);
+                data.putDouble("renderLatencyAverage", stats.renderLatencyAverage);
+                data.putInt("completedRenders", stats.completedRenders);
+                data.putInt("cancelledRenders", stats.cancelledRenders);
+                data.putInt("droppedRenders", stats.droppedRenders);
+                data.putDouble("bitmapBytes", stats.bitmapBytes);
+                data.putDouble("cacheHitRate", stats.getCacheHitRate());
+                return data;
+            }
+        };
+    }
+
+    public static Event<?> createOnMemoryBudgetChangeEvent(int surfaceId, int targetId, long budget, long pageCacheSize, float renderScale) {
+        return new Event(surfaceId, targetId) {
+            @NonNull
+            @Override
+            public String getEventName() {
+                return ON_MEMORY_BUDGET_CHANGE_EVENT;
+            }
+
+            @Override
+            protected WritableMap getEventData() {
+                var data = Arguments.createMap();
+                data.putDouble("budget", budget);
+                data.putDouble("pageCacheSize", pageCacheSize);
+                data.putDouble("renderScale", renderScale);
+                return data;
+            }
+        };
+    }
+
+    public static Event<?> createOnViewportChangeEvent(int surfaceId, int targetId, int firstPage, int lastPage,
+                                                       float[] visibleFractions, float zoom, float scrollOffset) {
+        return new Event(surfaceId, targetId) {
+            @NonNull
+            @Override
+            public String getEventName() {
+                return ON_VIEWPORT_CHANGE_EVENT;
+            }
+
+            @Override
+            protected WritableMap getEventData() {
+                var fractions = Arguments.createArray();
+                for (var fraction : visibleFractions) {
+                    fractions.pushDouble(fraction);
+                }
+                var data = Arguments.createMap();
+                data.putInt("firstVisiblePage", firstPage);
+                data.putInt("lastVisiblePage", lastPage);
+                data.putArray("visibleFractions", fractions);
+                data.putDouble("zoom", zoom);
+                data.putDouble("scrollOffset", scrollOffset);
+                return data;
+            }
+        };
+    }
+
     public static Event<?> createOnErrorEvent(int surfaceId, int targetId) {
         return new Event(surfaceId, targetId) {
             @NonNull
@@ -0,0 +1,99 @@
+// MIT License
+
+// Copyright (c) 2026 Douglas Nassif Roma Junior
+
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.github.douglasjunior.reactNativePdfRenderer.modules;
+
+import android.graphics.Bitmap;
+import android.graphics.Color;
+
+import androidx.annotation.Nullable;
+
+/**
+ * Pixel format of the rendered pages.
+ */
+public enum BitmapFormat {
+    /**
+     * Renders grayscale pages, like black-and-white scans, with {@link Bitmap.Config#RGB_565}
+     * and color pages with {@link Bitmap.Config#ARGB_8888}.
+     */
+    AUTO,
+    /**
+     * Half the memory of {@link #ARGB_8888}, with less color depth.
+     */
+    RGB_565,
+    ARGB_8888;
+
+    /**
+     * Max difference between the color channels of a pixel considered gray.
+     */
+    private static final int GRAY_TOLERANCE = 24;
+    /**
+     * Number of pixels sampled in each direction to tell whether a page is grayscale.
+     */
+    private static final int GRAY_SAMPLES = 32;
+
+    public static BitmapFormat fromString(@Nullable String value) {
+        if ("auto".equals(value)) return AUTO;
+        if ("rgb565".equals(value)) return RGB_565;
+        return ARGB_8888;
+    }
+
+    /**
+     * @param grayscale whether the page is grayscale, or {@code null} if unknown yet.
+     * @return config of the displayed and cached bitmaps. The pages are always rendered in
+     * {@link Bitmap.Config#ARGB_8888} and then converted, as {@link android.graphics.pdf.PdfRenderer} requires it.
+     */
+    public Bitmap.Config getConfig(@Nullable Boolean grayscale) {
+        switch (this) {
+            case RGB_565:
+                return Bitmap.Config.RGB_565;
+            case AUTO:
+                return Boolean.TRUE.equals(grayscale) ? Bitmap.Config.RGB_565 : Bitmap.Config.ARGB_8888;
+            default:
+                return Bitmap.Config.ARGB_8888;
+        }
+    }
+
+    /**
+     * Samples a grid of pixels of a rendered page to tell whether it only has shades of gray.
+     */
+    public static boolean isGrayscale(Bitmap bitmap) {
+        var width = bitmap.getWidth();
+        var height = bitmap.getHeight();
+        for (int i = 0; i < GRAY_SAMPLES; i++) {
+            var y = (int) ((i + 0.5f) * height / GRAY_SAMPLES);
+            for (int j = 0; j < GRAY_SAMPLES; j++) {
+                var x = (int) ((j + 0.5f) * width / GRAY_SAMPLES);
+                var pixel = bitmap.getPixel(x, y);
+                var red = Color.red(pixel);
+                var green = Color.green(pixel);
+                var blue = Color.blue(pixel);
+                if (Math.abs(red - green) > GRAY_TOLERANCE
+                        || Math.abs(green - blue) > GRAY_TOLERANCE
+                        || Math.abs(red - blue) > GRAY_TOLERANCE) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,148 @@
+// MIT License
+
+// Copyright (c) 2026 Douglas Nassif Roma Junior
+
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.github.douglasjunior.reactNativePdfRenderer.modules;
+
+import android.graphics.Bitmap;
+import android.util.SparseArray;
+
+import androidx.annotation.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.LinkedList;
+
+/**
+ * Keeps bitmaps that are no longer displayed or cached so they can be reused
+ * by the next render instead of being collected by the GC.
+ * <p>
+ * Bitmaps are grouped in power-of-two size classes by allocation size, and reused
+ * through {@link Bitmap#reconfigure(int, int, Bitmap.Config)}, so a page of a slightly
+ * different size can use the memory of another one while wasting at most half of it.
+ */
+public class BitmapPool {
+    private final SparseArray<ArrayDeque<Bitmap>> mSizeClasses = new SparseArray<>();
+    private final LinkedList<Bitmap> mLru = new LinkedList<>();
+    private long mMaxSize;
+    private long mSize;
+    private int mHitCount;
+    private int mMissCount;
+
+    public BitmapPool(long maxSize) {
+        mMaxSize = maxSize;
+    }
+
+    private static int getSizeClass(long byteCount) {
+        return 64 - Long.numberOfLeadingZeros(Math.max(byteCount - 1, 0));
+    }
+
+    private static int getBytesPerPixel(Bitmap.Config config) {
+        return config == Bitmap.Config.RGB_565 || config == Bitmap.Config.ARGB_4444 ? 2 : 4;
+    }
+
+    /**
+     * @return a bitmap reconfigured to the given size and config, or {@code null} if none is available.
+     * The content of the returned bitmap is undefined.
+     */
+    @Nullable
+    public synchronized Bitmap get(int width, int height, Bitmap.Config config) {
+        var byteCount = (long) width * height * getBytesPerPixel(config);
+        var bitmaps = mSizeClasses.get(getSizeClass(byteCount));
+        if (bitmaps != null) {
+            for (var iterator = bitmaps.iterator(); iterator.hasNext(); ) {
+                var bitmap = iterator.next();
+                if (bitmap.getAllocationByteCount() < byteCount) continue;
+                iterator.remove();
+                mLru.remove(bitmap);
+                mSize -= bitmap.getAllocationByteCount();
+                if (bitmap.getWidth() != width || bitmap.getHeight() != height || bitmap.getConfig() != config) {
+                    try {
+                        bitmap.reconfigure(width, height, config);
+                    } catch (IllegalArgumentException e) {
+                        continue;
+                    }
+                }
+                mHitCount++;
+                return bitmap;
+            }
+        }
+        mMissCount++;
+        return null;
+    }
+
+    public synchronized void put(Bitmap bitmap) {
+        if (bitmap.isRecycled() || !bitmap.isMutable()) return;
+
+        var size = bitmap.getAllocationByteCount();
+        if (size > mMaxSize) return;
+
+        var sizeClass = getSizeClass(size);
+        var bitmaps = mSizeClasses.get(sizeClass);
+        if (bitmaps == null) {
+            bitmaps = new ArrayDeque<>();
+            mSizeClasses.put(sizeClass, bitmaps);
+        }
+        bitmaps.addLast(bitmap);
+        mLru.addLast(bitmap);
+        mSize += size;
+        trimToSize(mMaxSize);
+    }
+
+    public synchronized void setMaxSize(long maxSize) {
+        mMaxSize = maxSize;
+        trimToSize(maxSize);
+    }
+
+    public synchronized void clear() {
+        trimToSize(0);
+    }
+
+    public synchronized long getSize() {
+        return mSize;
+    }
+
+    /**
+     * @return number of {@link #get(int, int, Bitmap.Config)} calls that returned a reusable bitmap.
+     */
+    public synchronized int getHitCount() {
+        return mHitCount;
+    }
+
+    /**
+     * @return number of {@link #get(int, int, Bitmap.Config)} calls that required a new allocation.
+     */
+    public synchronized int getMissCount() {
+        return mMissCount;
+    }
+
+    private void trimToSize(long maxSize) {
+        // The least recently released bitmaps are dropped first
+        while (mSize > maxSize && !mLru.isEmpty()) {
+            var bitmap = mLru.removeFirst();
+            var size = bitmap.getAllocationByteCount();
+            var bitmaps = mSizeClasses.get(getSizeClass(size));
+            if (bitmaps != null) {
+                bitmaps.remove(bitmap);
+            }
+            mSize -= size;
+        }
+    }
+}
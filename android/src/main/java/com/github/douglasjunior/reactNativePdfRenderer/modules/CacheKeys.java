@@ -0,0 +1,77 @@
+// MIT License
+
+// Copyright (c) 2026 Douglas Nassif Roma Junior
+
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.github.douglasjunior.reactNativePdfRenderer.modules;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * File names for the disk caches.
+ */
+class CacheKeys {
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private CacheKeys() {
+    }
+
+    /**
+     * @return the SHA-1 of the value in hexadecimal, safe to be used as a file name.
+     */
+    static String hash(String value) {
+        return toHex(getDigest().digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Reads the stream to its end, without closing it.
+     *
+     * @return the SHA-1 of the content in hexadecimal, safe to be used as a file name.
+     */
+    static String hash(InputStream input) throws IOException {
+        var digest = getDigest();
+        var buffer = new byte[READ_BUFFER_SIZE];
+        int count;
+        while ((count = input.read(buffer)) != -1) {
+            digest.update(buffer, 0, count);
+        }
+        return toHex(digest.digest());
+    }
+
+    private static MessageDigest getDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHex(byte[] digest) {
+        var key = new StringBuilder(digest.length * 2);
+        for (var b : digest) {
+            key.append(String.format("%02x", b));
+        }
+        return key.toString();
+    }
+}
@@ -0,0 +1,308 @@
+// MIT License
+
+// Copyright (c) 2026 Douglas Nassif Roma Junior
+
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.github.douglasjunior.reactNativePdfRenderer.modules;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.ParcelFileDescriptor;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.github.douglasjunior.reactNativePdfRenderer.BuildConfig;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reference counted registry of the open documents, so the viewers showing the same file
+ * share one {@link DocumentRenderer}, its {@link PageSizeIndex} and its rendered pages.
+ * <p>
+ * Must be accessed from the main thread.
+ */
+public class DocumentRegistry {
+    private final DocumentRenderer.Factory mRendererFactory;
+    private final Map<String, Document> mDocuments = new HashMap<>();
+    private final Map<Object, Long> mPageCacheSizes = new IdentityHashMap<>();
+    private final Handler mMainHandler = new Handler(Looper.getMainLooper());
+    private final PageBitmapCache mPageCache = new PageBitmapCache(getDefaultPageCacheSize());
+
+    public DocumentRegistry() {
+        this(DocumentRenderer.Platform::new);
+    }
+
+    /**
+     * @param rendererFactory opens the renderers of the documents and of their {@link RendererPool}.
+     */
+    DocumentRegistry(@NonNull DocumentRenderer.Factory rendererFactory) {
+        mRendererFactory = rendererFactory;
+    }
+
+    private static int getDefaultPageCacheSize() {
+        return (int) Math.min(MemoryGovernor.getInstance().getBudget(), Integer.MAX_VALUE);
+    }
+
+    /**
+     * @return cache of the rendered pages of all the documents, keyed by {@link Document#getIdentity()}.
+     */
+    public PageBitmapCache getPageCache() {
+        return mPageCache;
+    }
+
+    /**
+     * Sets how many bytes of the page cache belong to the given owner, the cache is sized to the sum of all the owners.
+     */
+    public void setPageCacheSize(@NonNull Object owner, long size) {
+        mPageCacheSizes.put(owner, size);
+        updatePageCacheSize();
+    }
+
+    /**
+     * Removes the share of the given owner, emptying the page cache and its bitmap pool when it was the last one,
+     * so the bitmaps do not stay in memory while no viewer is showing them. The owner must have
+     * {@link PageBitmapCache#release(android.graphics.Bitmap) released} its displayed bitmaps before.
+     */
+    public void removePageCacheSize(@NonNull Object owner) {
+        if (mPageCacheSizes.remove(owner) == null) return;
+        if (mPageCacheSizes.isEmpty()) {
+            mPageCache.evictAll();
+            return;
+        }
+        updatePageCacheSize();
+    }
+
+    private void updatePageCacheSize() {
+        if (mPageCacheSizes.isEmpty()) return;
+        long size = 0;
+        for (var ownerSize : mPageCacheSizes.values()) {
+            size += ownerSize;
+        }
+        mPageCache.setMaxSize((int) Math.max(Math.min(size, Integer.MAX_VALUE), 1));
+    }
+
+    /**
+     * Opens the document in background, or shares it if the same identity is already open or opening.
+     * The returned document must be given back to {@link #release(Document)}, even if the open fails.
+     *
+     * @param source   the PDF, shared with the documents open with the same identity.
+     * @param callback invoked on the main thread when the document is ready or fails to open.
+     */
+    @NonNull
+    public Document open(PdfSource source, OpenCallback callback) {
+        var identity = source.getIdentity();
+        var document = mDocuments.get(identity);
+        if (document == null) {
+            document = new Document(identity);
+            mDocuments.put(identity, document);
+            document.open(source);
+        }
+        document.mReferenceCount++;
+
+        if (document.mOpened) {
+            var openedDocument = document;
+            // Keeps the callback asynchronous, like for a document that is still opening
+            mMainHandler.post(() -> {
+                if (openedDocument.mReferenceCount > 0) {
+                    callback.onOpen(openedDocument);
+                }
+            });
+        } else {
+            document.mCallbacks.add(callback);
+        }
+        return document;
+    }
+
+    /**
+     * Gives back a document received from {@link #open(PdfSource, OpenCallback)},
+     * closing it after the pending renders if there are no other users.
+     */
+    public void release(@NonNull Document document) {
+        if (document.mReferenceCount == 0) return;
+        if (--document.mReferenceCount > 0) return;
+
+        if (mDocuments.get(document.mIdentity) == document) {
+            mDocuments.remove(document.mIdentity);
+            mPageCache.evictDocument(document.mIdentity);
+        }
+        document.mCallbacks.clear();
+        document.close();
+    }
+
+    public interface OpenCallback {
+        void onOpen(@NonNull Document document);
+
+        void onError();
+    }
+
+    public class Document {
+        private final String mIdentity;
+        /*
+         * PdfRenderer only allows one page to be opened at a time,
+         * so every access to the renderer happens on this single thread.
+         */
+        private final RenderScheduler mScheduler = new RenderScheduler();
+        private final List<OpenCallback> mCallbacks = new ArrayList<>();
+        private int mReferenceCount;
+        private boolean mOpened;
+        /*
+         * Set on the main thread when the last reference is released, so an open still queued or running stops early.
+         */
+        private volatile boolean mReleased;
+        private ParcelFileDescriptor mFileDescriptor;
+        private DocumentRenderer mRenderer;
+        private PageSizeIndex mPageSizes;
+        private PdfSource mSource;
+        private RendererPool mRendererPool;
+
+        private Document(String identity) {
+            mIdentity = identity;
+        }
+
+        public String getIdentity() {
+            return mIdentity;
+        }
+
+        public RenderScheduler getScheduler() {
+            return mScheduler;
+        }
+
+        /**
+         * @return the renderer, or {@code null} while opening. Must only be used on {@link #getScheduler()}.
+         */
+        @Nullable
+        public DocumentRenderer getRenderer() {
+            return mRenderer;
+        }
+
+        @Nullable
+        public PageSizeIndex getPageSizes() {
+            return mPageSizes;
+        }
+
+        /**
+         * @return renderers that run in parallel to {@link #getScheduler()}, grown to at least {@code size}.
+         * Must be called on the main thread, the pool is closed with the document.
+         */
+        @NonNull
+        public RendererPool getRendererPool(int size) {
+            if (mRendererPool == null || mRendererPool.getSize() < size) {
+                if (mRendererPool != null) {
+                    // Closed after the jobs already submitted to it
+                    mRendererPool.close();
+                }
+                mRendererPool = new RendererPool(mSource, mRendererFactory, size);
+            }
+            return mRendererPool;
+        }
+
+        private void open(PdfSource source) {
+            mSource = source;
+            mScheduler.submit(RenderScheduler.LANE_VISIBLE, () -> {
+                // Released while queued, like when the source changes quickly
+                if (mReleased) return;
+                ParcelFileDescriptor fileDescriptor = null;
+                DocumentRenderer renderer = null;
+                try {
+                    fileDescriptor = source.open();
+                    renderer = mRendererFactory.open(fileDescriptor);
+                    var pageSizes = PageSizeIndex.build(renderer, () -> mReleased);
+                    if (pageSizes == null) {
+                        // Nobody is waiting for the document anymore, the callbacks were already cleared
+                        closeDocument(renderer, fileDescriptor);
+                        return;
+                    }
+                    // Written on the render thread, so the close job queued after this one sees them
+                    mFileDescriptor = fileDescriptor;
+                    mRenderer = renderer;
+                    mPageSizes = pageSizes;
+                    mMainHandler.post(this::onOpen);
+                } catch (Exception e) {
+                    if (BuildConfig.DEBUG) {
+                        // noinspection CallToPrintStackTrace
+                        e.printStackTrace();
+                    }
+                    closeDocument(renderer, fileDescriptor);
+                    mMainHandler.post(this::onError);
+                }
+            });
+        }
+
+        private void onOpen() {
+            mOpened = true;
+            var callbacks = new ArrayList<>(mCallbacks);
+            mCallbacks.clear();
+            for (var callback : callbacks) {
+                callback.onOpen(this);
+            }
+        }
+
+        private void onError() {
+            // Allows the same identity to be opened again
+            if (mDocuments.get(mIdentity) == this) {
+                mDocuments.remove(mIdentity);
+            }
+            var callbacks = new ArrayList<>(mCallbacks);
+            mCallbacks.clear();
+            for (var callback : callbacks) {
+                callback.onError();
+            }
+        }
+
+        /**
+         * Closes the document on the render thread, after the pending jobs that still hold a reference to it.
+         * An open still in progress stops before reading the rest of the pages.
+         */
+        private void close() {
+            mReleased = true;
+            if (mRendererPool != null) {
+                mRendererPool.close();
+                mRendererPool = null;
+            }
+            mScheduler.shutdown(() -> {
+                closeDocument(mRenderer, mFileDescriptor);
+                mRenderer = null;
+                mFileDescriptor = null;
+            });
+        }
+
+        private void closeDocument(@Nullable DocumentRenderer renderer, @Nullable ParcelFileDescriptor fileDescriptor) {
+            if (renderer != null) {
+                renderer.close();
+            }
+            if (fileDescriptor != null) {
+                try {
+                    fileDescriptor.close();
+                } catch (IOException e) {
+                    if (BuildConfig.DEBUG) {
+                        // noinspection CallToPrintStackTrace
+                        e.printStackTrace();
+                    }
+                }
+            }
+        }
+    }
+}
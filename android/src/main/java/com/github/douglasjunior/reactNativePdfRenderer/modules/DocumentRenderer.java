@@ -0,0 +1,125 @@
+// MIT License
+
+// Copyright (c) 2026 Douglas Nassif Roma Junior
+
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.github.douglasjunior.reactNativePdfRenderer.modules;
+
+import android.graphics.Bitmap;
+import android.graphics.Matrix;
+import android.graphics.pdf.PdfRenderer;
+import android.os.ParcelFileDescriptor;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.IOException;
+
+/**
+ * Pages of an open document, as used by the viewer: sizes and renders for display.
+ * <p>
+ * Implemented by {@link Platform} over {@link PdfRenderer}, a final class backed by native code,
+ * so the tests and the benchmarks can run the render path with another backend.
+ * Like {@link PdfRenderer}, only one page can be open at a time.
+ */
+public interface DocumentRenderer {
+    int getPageCount();
+
+    @NonNull
+    Page openPage(int index);
+
+    void close();
+
+    interface Page extends AutoCloseable {
+        /**
+         * @return page width in points (1/72 inch).
+         */
+        int getWidth();
+
+        /**
+         * @return page height in points (1/72 inch).
+         */
+        int getHeight();
+
+        /**
+         * Renders the page for display, see {@link PdfRenderer.Page#render}.
+         *
+         * @param destination an {@link Bitmap.Config#ARGB_8888} bitmap.
+         * @param transform   from page points to bitmap pixels, or {@code null} to fit the page to the bitmap.
+         */
+        void render(@NonNull Bitmap destination, @Nullable Matrix transform);
+
+        @Override
+        void close();
+    }
+
+    interface Factory {
+        /**
+         * @param fileDescriptor seekable descriptor of the PDF, kept open and closed by the caller after the renderer.
+         */
+        @NonNull
+        DocumentRenderer open(@NonNull ParcelFileDescriptor fileDescriptor) throws IOException;
+    }
+
+    class Platform implements DocumentRenderer {
+        private final PdfRenderer mRenderer;
+
+        public Platform(@NonNull ParcelFileDescriptor fileDescriptor) throws IOException {
+            mRenderer = new PdfRenderer(fileDescriptor);
+        }
+
+        @Override
+        public int getPageCount() {
+            return mRenderer.getPageCount();
+        }
+
+        @NonNull
+        @Override
+        public Page openPage(int index) {
+            var page = mRenderer.openPage(index);
+            return new Page() {
+                @Override
+                public int getWidth() {
+                    return page.getWidth();
+                }
+
+                @Override
+                public int getHeight() {
+                    return page.getHeight();
+                }
+
+                @Override
+                public void render(@NonNull Bitmap destination, @Nullable Matrix transform) {
+                    page.render(destination, null, transform, PdfRenderer.Page.RENDER_MODE_FOR_DISPLAY);
+                }
+
+                @Override
+                public void close() {
+                    page.close();
+                }
+            };
+        }
+
+        @Override
+        public void close() {
+            mRenderer.close();
+        }
+    }
+}
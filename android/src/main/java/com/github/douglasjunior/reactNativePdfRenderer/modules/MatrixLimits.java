@@ -0,0 +1,77 @@
+// MIT License
+
+// Copyright (c) 2026 Douglas Nassif Roma Junior
+
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.github.douglasjunior.reactNativePdfRenderer.modules;
+
+import android.graphics.Matrix;
+
+/**
+ * Limits of the zoom matrix of the viewer, applied to the cached values of the matrix,
+ * so the gesture and scroll callbacks run without allocating.
+ */
+class MatrixLimits {
+    private MatrixLimits() {
+    }
+
+    /**
+     * Limits the scale to the zoom range and the translation to the zoomed content, in place.
+     *
+     * @param values values of the matrix, as in {@link Matrix#getValues(float[])}.
+     */
+    static void clamp(float[] values, float minZoom, float maxZoom, int width, int height) {
+        var scaleX = Math.min(Math.max(values[Matrix.MSCALE_X], minZoom), maxZoom);
+        var posX = values[Matrix.MTRANS_X];
+
+        var scaleY = Math.min(Math.max(values[Matrix.MSCALE_Y], minZoom), maxZoom);
+        var posY = values[Matrix.MTRANS_Y];
+
+        var maxPosX = width - width * scaleX;
+        var maxPosY = height - height * scaleY;
+
+        if (posX > 0.0f)
+            posX = 0.0f;
+        else if (posX < maxPosX)
+            posX = maxPosX;
+
+        if (posY > 0.0f)
+            posY = 0.0f;
+        else if (posY < maxPosY)
+            posY = maxPosY;
+
+        values[Matrix.MSCALE_X] = scaleX;
+        values[Matrix.MTRANS_X] = posX;
+        values[Matrix.MSCALE_Y] = scaleY;
+        values[Matrix.MTRANS_Y] = posY;
+    }
+
+    /**
+     * @return whether the content can still be scrolled vertically inside the zoomed area, in both directions.
+     */
+    static boolean isInsideZoomedArea(float[] values, float minZoom, float maxZoom, int height) {
+        var scaleY = Math.min(Math.max(values[Matrix.MSCALE_Y], minZoom), maxZoom);
+        var posY = values[Matrix.MTRANS_Y];
+
+        var maxPosY = height - height * scaleY;
+
+        return posY < 0 && posY > maxPosY;
+    }
+}
@@ -0,0 +1,169 @@
+// MIT License
+
+// Copyright (c) 2026 Douglas Nassif Roma Junior
+
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.github.douglasjunior.reactNativePdfRenderer.modules;
+
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.res.Configuration;
+import android.os.Handler;
+import android.os.Looper;
+
+import androidx.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Process-wide memory budget shared by all the viewers.
+ * <p>
+ * The page cache budget is split between the attached viewers, and under memory pressure
+ * both the budget and the render resolution are reduced until the pressure is gone.
+ * <p>
+ * Must be accessed from the main thread.
+ */
+public class MemoryGovernor implements ComponentCallbacks2 {
+    /**
+     * Time without memory warnings before the budget goes back to normal.
+     */
+    private static final long PRESSURE_RECOVERY_DELAY_MS = 30_000;
+
+    private static MemoryGovernor sInstance;
+
+    private final List<Client> mClients = new ArrayList<>();
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
+    private final Runnable mRecoverRunnable = () -> setPressure(1, 1);
+    private Context mContext;
+    private long mBudget = getDefaultBudget();
+    private float mBudgetFactor = 1;
+    private float mRenderScale = 1;
+
+    public static MemoryGovernor getInstance() {
+        if (sInstance == null) {
+            sInstance = new MemoryGovernor();
+        }
+        return sInstance;
+    }
+
+    /**
+     * Default budget: 1/8 of the app heap.
+     */
+    private static long getDefaultBudget() {
+        return Runtime.getRuntime().maxMemory() / 8;
+    }
+
+    public void register(@NonNull Context context, @NonNull Client client) {
+        if (mClients.contains(client)) return;
+        if (mClients.isEmpty()) {
+            mContext = context.getApplicationContext();
+            mContext.registerComponentCallbacks(this);
+        }
+        mClients.add(client);
+        notifyClients();
+    }
+
+    public void unregister(@NonNull Client client) {
+        if (!mClients.remove(client)) return;
+        if (mClients.isEmpty()) {
+            mContext.unregisterComponentCallbacks(this);
+            mContext = null;
+            mHandler.removeCallbacks(mRecoverRunnable);
+            mBudgetFactor = 1;
+            mRenderScale = 1;
+        } else {
+            notifyClients();
+        }
+    }
+
+    /**
+     * @return page cache bytes currently available to all the viewers together.
+     */
+    public long getBudget() {
+        return (long) (mBudget * mBudgetFactor);
+    }
+
+    /**
+     * @return page cache bytes currently available to each viewer.
+     */
+    public long getClientBudget() {
+        return getBudget() / Math.max(mClients.size(), 1);
+    }
+
+    /**
+     * @return factor applied to the render resolution, below {@code 1} under memory pressure.
+     */
+    public float getRenderScale() {
+        return mRenderScale;
+    }
+
+    @Override
+    public void onTrimMemory(int level) {
+        for (var client : new ArrayList<>(mClients)) {
+            client.onTrimMemory(level);
+        }
+
+        if (level >= TRIM_MEMORY_MODERATE || level == TRIM_MEMORY_RUNNING_CRITICAL) {
+            setPressure(0.25f, 0.5f);
+        } else if (level >= TRIM_MEMORY_BACKGROUND || level == TRIM_MEMORY_RUNNING_LOW) {
+            setPressure(Math.min(mBudgetFactor, 0.5f), Math.min(mRenderScale, 0.75f));
+        } else {
+            return;
+        }
+
+        mHandler.removeCallbacks(mRecoverRunnable);
+        mHandler.postDelayed(mRecoverRunnable, PRESSURE_RECOVERY_DELAY_MS);
+    }
+
+    @Override
+    public void onLowMemory() {
+        onTrimMemory(TRIM_MEMORY_COMPLETE);
+    }
+
+    @Override
+    public void onConfigurationChanged(@NonNull Configuration newConfig) {
+    }
+
+    private void setPressure(float budgetFactor, float renderScale) {
+        if (budgetFactor == mBudgetFactor && renderScale == mRenderScale) return;
+        mBudgetFactor = budgetFactor;
+        mRenderScale = renderScale;
+        notifyClients();
+    }
+
+    private void notifyClients() {
+        var clientBudget = getClientBudget();
+        for (var client : new ArrayList<>(mClients)) {
+            client.onMemoryBudgetChange(getBudget(), clientBudget, mRenderScale);
+        }
+    }
+
+    public interface Client {
+        /**
+         * @param budget       page cache bytes available to all the viewers together.
+         * @param clientBudget page cache bytes available to this viewer.
+         * @param renderScale  factor to apply to the render resolution.
+         */
+        void onMemoryBudgetChange(long budget, long clientBudget, float renderScale);
+
+        void onTrimMemory(int level);
+    }
+}
@@ -51,10 +51,17 @@ public class ObservableZoom {
         return zoom;
     }
 
+    /**
+     * Listeners are only notified when the zoom moves to another bucket (see {@link PageBitmapCache#getZoomBucket(float)}),
+     * small zoom changes keep displaying the pages rendered for the current bucket.
+     */
     public void setZoom(float newZoom) {
         if (newZoom == this.zoom) return;
+        var bucketChanged = PageBitmapCache.getZoomBucket(newZoom) != PageBitmapCache.getZoomBucket(this.zoom);
         this.zoom = newZoom;
-        notifyListeners();
+        if (bucketChanged) {
+            notifyListeners();
+        }
     }
 
     public interface ZoomChangeListener {
@@ -0,0 +1,234 @@
+// MIT License
+
+// Copyright (c) 2026 Douglas Nassif Roma Junior
+
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.github.douglasjunior.reactNativePdfRenderer.modules;
+
+import android.content.ComponentCallbacks2;
+import android.graphics.Bitmap;
+import android.util.LruCache;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Memory-bounded cache of rendered pages, keyed by document, page index and zoom bucket.
+ * A single instance is shared by all the viewers through the {@link DocumentRegistry}.
+ * <p>
+ * Bitmaps currently displayed by a page are reference counted, so an evicted bitmap
+ * only goes back to the {@link BitmapPool} once no page is showing it anymore.
+ * <p>
+ * Must be accessed from the main thread, except for {@link #getPool()}.
+ */
+public class PageBitmapCache {
+    /**
+     * Zoom levels are quantized in steps of half a power of two (1x, 1.41x, 2x, 2.83x, 4x...).
+     */
+    private static final float ZOOM_BUCKETS_PER_DOUBLING = 2f;
+
+    private final LruCache<Key, Bitmap> mCache;
+    private final BitmapPool mPool;
+    private final Map<Bitmap, Integer> mDisplayed = new IdentityHashMap<>();
+    private final Set<Bitmap> mCached = Collections.newSetFromMap(new IdentityHashMap<>());
+    /**
+     * Keys of the cached pages, so {@link #contains} can probe without counting a hit or touching the LRU order.
+     */
+    private final Set<Key> mKeys = new HashSet<>();
+
+    public PageBitmapCache(int maxSize) {
+        mPool = new BitmapPool(maxSize / 4);
+        mCache = new LruCache<>(maxSize) {
+            @Override
+            protected int sizeOf(@NonNull Key key, @NonNull Bitmap bitmap) {
+                return bitmap.getAllocationByteCount();
+            }
+
+            @Override
+            protected void entryRemoved(boolean evicted, @NonNull Key key, @NonNull Bitmap oldValue, @Nullable Bitmap newValue) {
+                if (newValue == null) {
+                    mKeys.remove(key);
+                }
+                if (oldValue == newValue) return;
+                mCached.remove(oldValue);
+                recycleIfUnused(oldValue);
+            }
+        };
+    }
+
+    public static int getZoomBucket(float zoom) {
+        // The epsilon prevents float rounding from pushing exact bucket values to the next one
+        var bucket = (int) Math.ceil(Math.log(zoom) / Math.log(2) * ZOOM_BUCKETS_PER_DOUBLING - 0.001);
+        return Math.max(bucket, 0);
+    }
+
+    /**
+     * @return the zoom used to render the pages of the given bucket, always greater than or equal to the zooms inside it.
+     */
+    public static float getBucketZoom(int zoomBucket) {
+        return (float) Math.pow(2, zoomBucket / ZOOM_BUCKETS_PER_DOUBLING);
+    }
+
+    public BitmapPool getPool() {
+        return mPool;
+    }
+
+    @Nullable
+    public Bitmap get(String document, int page, int zoomBucket) {
+        return mCache.get(new Key(document, page, zoomBucket));
+    }
+
+    /**
+     * Unlike {@link #get}, neither counts in the hit rate nor marks the page as recently used.
+     */
+    public boolean contains(String document, int page, int zoomBucket) {
+        return mKeys.contains(new Key(document, page, zoomBucket));
+    }
+
+    public int getHitCount() {
+        return mCache.hitCount();
+    }
+
+    public int getMissCount() {
+        return mCache.missCount();
+    }
+
+    /**
+     * @return number of bitmaps currently {@link #acquire(Bitmap) acquired} by the pages.
+     */
+    int getDisplayedCount() {
+        return mDisplayed.size();
+    }
+
+    /**
+     * @return bytes of the bitmaps cached, displayed or waiting in the pool to be reused.
+     */
+    public long getAllocatedBytes() {
+        long bytes = mCache.size() + mPool.getSize();
+        for (var bitmap : mDisplayed.keySet()) {
+            if (!mCached.contains(bitmap)) {
+                bytes += bitmap.getAllocationByteCount();
+            }
+        }
+        return bytes;
+    }
+
+    public void put(String document, int page, int zoomBucket, Bitmap bitmap) {
+        mCached.add(bitmap);
+        mKeys.add(new Key(document, page, zoomBucket));
+        mCache.put(new Key(document, page, zoomBucket), bitmap);
+    }
+
+    /**
+     * Marks the bitmap as displayed, preventing it from being reused while visible.
+     */
+    public void acquire(@Nullable Bitmap bitmap) {
+        if (bitmap == null) return;
+        var count = mDisplayed.get(bitmap);
+        mDisplayed.put(bitmap, count == null ? 1 : count + 1);
+    }
+
+    /**
+     * Releases a bitmap previously {@link #acquire(Bitmap) acquired}.
+     */
+    public void release(@Nullable Bitmap bitmap) {
+        if (bitmap == null) return;
+        var count = mDisplayed.get(bitmap);
+        if (count == null) return;
+        if (count > 1) {
+            mDisplayed.put(bitmap, count - 1);
+            return;
+        }
+        mDisplayed.remove(bitmap);
+        recycleIfUnused(bitmap);
+    }
+
+    private void recycleIfUnused(Bitmap bitmap) {
+        if (mDisplayed.containsKey(bitmap) || mCached.contains(bitmap)) return;
+        mPool.put(bitmap);
+    }
+
+    public void setMaxSize(int maxSize) {
+        mCache.resize(maxSize);
+        mPool.setMaxSize(maxSize / 4);
+    }
+
+    public void evictAll() {
+        mCache.evictAll();
+        mPool.clear();
+    }
+
+    /**
+     * Removes the pages of the given document, the displayed ones are only reused once released.
+     */
+    public void evictDocument(String document) {
+        for (var key : mCache.snapshot().keySet()) {
+            if (key.document.equals(document)) {
+                mCache.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Safe to call more than once for the same memory warning, the cache itself
+     * is resized by the {@link MemoryGovernor} budget.
+     */
+    public void onTrimMemory(int level) {
+        if (level >= ComponentCallbacks2.TRIM_MEMORY_MODERATE
+                || level == ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL) {
+            evictAll();
+        } else if (level >= ComponentCallbacks2.TRIM_MEMORY_BACKGROUND
+                || level == ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW) {
+            mPool.clear();
+        }
+    }
+
+    private static class Key {
+        private final String document;
+        private final int page;
+        private final int zoomBucket;
+
+        Key(String document, int page, int zoomBucket) {
+            this.document = document;
+            this.page = page;
+            this.zoomBucket = zoomBucket;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            var key = (Key) o;
+            return page == key.page && zoomBucket == key.zoomBucket && document.equals(key.document);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(document, page, zoomBucket);
+        }
+    }
+}
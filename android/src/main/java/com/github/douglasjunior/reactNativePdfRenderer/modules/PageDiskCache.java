@@ -0,0 +1,246 @@
+// MIT License
+
+// Copyright (c) 2026 Douglas Nassif Roma Junior
+
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.github.douglasjunior.reactNativePdfRenderer.modules;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.github.douglasjunior.reactNativePdfRenderer.BuildConfig;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Disk tier of the {@link PageBitmapCache}, so reopened documents display the pages without rendering them again.
+ * <p>
+ * Pages are stored as raw pixels, read through memory-mapped files straight into the pooled bitmaps.
+ * Writes happen on a background thread, and the least recently used pages are deleted above {@link #MAX_SIZE}.
+ * <p>
+ * Thread safe.
+ */
+public class PageDiskCache {
+    private static final long MAX_SIZE = 200 * 1024 * 1024;
+    /**
+     * Each pending write holds a copy of the page pixels, so when the disk is slower than
+     * the rendering the pages are not written instead of piling up in memory.
+     */
+    private static final int MAX_PENDING_WRITES = 4;
+    /**
+     * Width, height and pixel format, followed by the pixels.
+     */
+    private static final int HEADER_SIZE = 3 * Integer.BYTES;
+    private static final Bitmap.Config[] CONFIGS = {Bitmap.Config.ARGB_8888, Bitmap.Config.RGB_565};
+
+    private static PageDiskCache sInstance;
+
+    private final File mDir;
+    private final ExecutorService mWriteExecutor = Executors.newSingleThreadExecutor();
+    private final AtomicInteger mPendingWrites = new AtomicInteger();
+    /*
+     * Size of each file by key, in access order.
+     */
+    private final LinkedHashMap<String, Long> mEntries = new LinkedHashMap<>(16, 0.75f, true);
+    private long mSize;
+
+    private PageDiskCache(File dir) {
+        mDir = dir;
+        mWriteExecutor.execute(this::loadEntries);
+    }
+
+    public static synchronized PageDiskCache getInstance(@NonNull Context context) {
+        if (sInstance == null) {
+            sInstance = new PageDiskCache(new File(context.getApplicationContext().getCacheDir(), "pdf-renderer/pages"));
+        }
+        return sInstance;
+    }
+
+    /**
+     * @return prefix of the keys of the pages of a document, computed once per document as it hashes the identity.
+     */
+    public static String getDocumentKey(String identity) {
+        return CacheKeys.hash(identity);
+    }
+
+    /**
+     * @param documentKey see {@link #getDocumentKey(String)}.
+     * @param variant     render settings that change the pixels of the page, like the resolution and the format.
+     *                    Only letters, digits and dashes, as it is part of the file name.
+     */
+    public static String getKey(String documentKey, int page, int zoomBucket, String variant) {
+        return documentKey + "_" + page + "_" + zoomBucket + "_" + variant;
+    }
+
+    public synchronized boolean contains(String key) {
+        return mEntries.containsKey(key);
+    }
+
+    /**
+     * Must be called on a background thread.
+     *
+     * @return the page, in a bitmap from the pool when possible, or {@code null} if not cached.
+     */
+    @Nullable
+    public Bitmap read(String key, BitmapPool pool) {
+        synchronized (this) {
+            // Also marks the entry as recently used
+            if (mEntries.get(key) == null) return null;
+        }
+
+        var file = new File(mDir, key);
+        try (var input = new RandomAccessFile(file, "r"); var channel = input.getChannel()) {
+            var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            var width = buffer.getInt();
+            var height = buffer.getInt();
+            var config = CONFIGS[buffer.getInt()];
+
+            var bitmap = pool.get(width, height, config);
+            if (bitmap == null) {
+                bitmap = Bitmap.createBitmap(width, height, config);
+            }
+            if (buffer.remaining() < bitmap.getByteCount()) {
+                pool.put(bitmap);
+                throw new IOException("Truncated page file");
+            }
+            bitmap.copyPixelsFromBuffer(buffer);
+            // Keeps the access order when the entries are loaded again
+            file.setLastModified(System.currentTimeMillis());
+            return bitmap;
+        } catch (Exception e) {
+            if (BuildConfig.DEBUG) {
+                // noinspection CallToPrintStackTrace
+                e.printStackTrace();
+            }
+            remove(key);
+            return null;
+        }
+    }
+
+    /**
+     * Copies the pixels and writes them in background, the bitmap can be reused right after this method returns.
+     */
+    public void write(String key, Bitmap bitmap) {
+        var configIndex = Arrays.asList(CONFIGS).indexOf(bitmap.getConfig());
+        if (configIndex < 0 || contains(key)) return;
+        if (mPendingWrites.incrementAndGet() > MAX_PENDING_WRITES) {
+            mPendingWrites.decrementAndGet();
+            return;
+        }
+
+        var data = ByteBuffer.allocate(HEADER_SIZE + bitmap.getByteCount());
+        data.putInt(bitmap.getWidth());
+        data.putInt(bitmap.getHeight());
+        data.putInt(configIndex);
+        bitmap.copyPixelsToBuffer(data);
+        data.flip();
+
+        mWriteExecutor.execute(() -> {
+            try {
+                writeFile(key, data);
+            } finally {
+                mPendingWrites.decrementAndGet();
+            }
+        });
+    }
+
+    private void writeFile(String key, ByteBuffer data) {
+        if (!mDir.exists() && !mDir.mkdirs()) return;
+
+        // Written to a temporary file first, so a failure never leaves a partial page in the cache
+        var file = new File(mDir, key);
+        var temporary = new File(mDir, key + ".tmp");
+        try (var output = new FileOutputStream(temporary); var channel = output.getChannel()) {
+            while (data.hasRemaining()) {
+                channel.write(data);
+            }
+        } catch (IOException e) {
+            if (BuildConfig.DEBUG) {
+                // noinspection CallToPrintStackTrace
+                e.printStackTrace();
+            }
+            temporary.delete();
+            return;
+        }
+        if (!temporary.renameTo(file)) {
+            temporary.delete();
+            return;
+        }
+
+        synchronized (this) {
+            var previous = mEntries.put(key, file.length());
+            mSize += file.length() - (previous != null ? previous : 0);
+            trimToSize();
+        }
+    }
+
+    private synchronized void remove(String key) {
+        var size = mEntries.remove(key);
+        if (size == null) return;
+        mSize -= size;
+        new File(mDir, key).delete();
+    }
+
+    /**
+     * Must be called with the lock held.
+     */
+    private void trimToSize() {
+        var iterator = mEntries.entrySet().iterator();
+        while (mSize > MAX_SIZE && iterator.hasNext()) {
+            var entry = iterator.next();
+            mSize -= entry.getValue();
+            iterator.remove();
+            new File(mDir, entry.getKey()).delete();
+        }
+    }
+
+    private void loadEntries() {
+        var files = mDir.listFiles();
+        if (files == null) return;
+
+        Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+        synchronized (this) {
+            for (var file : files) {
+                if (file.getName().endsWith(".tmp")) {
+                    // Left by an interrupted write
+                    file.delete();
+                    continue;
+                }
+                var previous = mEntries.put(file.getName(), file.length());
+                mSize += file.length() - (previous != null ? previous : 0);
+            }
+            trimToSize();
+        }
+    }
+}
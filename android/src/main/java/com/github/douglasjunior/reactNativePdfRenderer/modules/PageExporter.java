@@ -0,0 +1,329 @@
+// MIT License
+
+// Copyright (c) 2026 Douglas Nassif Roma Junior
+
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.github.douglasjunior.reactNativePdfRenderer.modules;
+
+import android.graphics.Bitmap;
+import android.graphics.Color;
+import android.graphics.pdf.PdfRenderer;
+import android.os.Build;
+
+import androidx.annotation.NonNull;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Renders ranges of pages to image files, one page at a time per renderer into a reused bitmap,
+ * so the memory does not grow with the number of pages.
+ */
+public class PageExporter {
+    /**
+     * Largest page accepted, 64MB in ARGB_8888.
+     */
+    private static final long MAX_PIXELS = 16 * 1024 * 1024;
+    private static final int QUALITY = 90;
+
+    private final File mOutputDir;
+    private final ExecutorService mExecutor = Executors.newSingleThreadExecutor();
+    private final Map<Integer, Job> mJobs = new ConcurrentHashMap<>();
+
+    public PageExporter(File outputDir) {
+        mOutputDir = outputDir;
+    }
+
+    /**
+     * @param lastPage      last page index, inclusive, or {@code -1} for the last page of the document.
+     * @param dpi           resolution of the images, {@code 72} renders one pixel per PDF point.
+     * @param format        {@code png}, {@code jpeg} or {@code webp}.
+     * @param renderThreads number of renderers working in parallel, limited by the cores and the memory budget.
+     * @param callback      invoked on background threads, the progress of the pages may arrive out of order.
+     */
+    public void export(int jobId, PdfSource source, int firstPage, int lastPage, float dpi, String format,
+                       int renderThreads, Callback callback) {
+        var job = new Job();
+        if (mJobs.putIfAbsent(jobId, job) != null) {
+            callback.onError(new IllegalArgumentException("Duplicated job id: " + jobId));
+            return;
+        }
+        mExecutor.execute(() -> {
+            try {
+                var images = render(job, source, firstPage, lastPage, dpi, format, renderThreads, callback);
+                if (job.cancelled) {
+                    callback.onCancel();
+                } else {
+                    callback.onComplete(images);
+                }
+            } catch (Exception e) {
+                callback.onError(e);
+            } finally {
+                mJobs.remove(jobId);
+            }
+        });
+    }
+
+    /**
+     * Stops the job after the page being rendered, the images already written are kept.
+     */
+    public void cancel(int jobId) {
+        var job = mJobs.get(jobId);
+        if (job != null) {
+            job.cancelled = true;
+        }
+    }
+
+    public void release() {
+        for (var job : mJobs.values()) {
+            job.cancelled = true;
+        }
+        mExecutor.shutdown();
+    }
+
+    private List<File> render(Job job, PdfSource source, int firstPage, int lastPage, float dpi, String format,
+                              int renderThreads, Callback callback) throws Exception {
+        var compressFormat = getCompressFormat(format);
+        if (dpi <= 0) {
+            throw new IllegalArgumentException("Invalid dpi: " + dpi);
+        }
+        if (!mOutputDir.exists() && !mOutputDir.mkdirs()) {
+            throw new IOException("Unable to create the export directory");
+        }
+
+        try (var fileDescriptor = source.open();
+             var renderer = new PdfRenderer(fileDescriptor)) {
+            var last = lastPage < 0 ? renderer.getPageCount() - 1 : Math.min(lastPage, renderer.getPageCount() - 1);
+            if (firstPage < 0 || firstPage > last) {
+                throw new IllegalArgumentException("Invalid page range: " + firstPage + "-" + lastPage);
+            }
+            var batch = new Batch(job, CacheKeys.hash(source.getIdentity()), firstPage, last, dpi, format,
+                    compressFormat, callback);
+
+            var workers = 1;
+            if (renderThreads > 1) {
+                long pageBytes;
+                try (var page = renderer.openPage(firstPage)) {
+                    pageBytes = (long) getPixelSize(page.getWidth(), dpi) * getPixelSize(page.getHeight(), dpi) * 4;
+                }
+                // Every worker holds a bitmap of about the size of a page
+                var workersByMemory = MemoryGovernor.getInstance().getBudget() / Math.max(pageBytes, 1);
+                workers = (int) Math.max(Math.min(Math.min(renderThreads, RendererPool.getMaxSize()),
+                        Math.min(batch.total, workersByMemory)), 1);
+            }
+
+            var pool = workers > 1 ? new RendererPool(source, workers - 1) : null;
+            var tasks = new ArrayList<Future<?>>();
+            try {
+                for (int i = 1; i < workers; i++) {
+                    tasks.add(pool.submit(RenderScheduler.LANE_EXPORT, batch::renderPages, null));
+                }
+                batch.renderPages(renderer);
+                for (var task : tasks) {
+                    try {
+                        task.get();
+                    } catch (ExecutionException e) {
+                        var cause = e.getCause();
+                        if (cause instanceof UncheckedIOException) throw ((UncheckedIOException) cause).getCause();
+                        if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+                        throw e;
+                    }
+                }
+            } finally {
+                batch.stopped = true;
+                if (pool != null) {
+                    pool.close();
+                }
+            }
+            return batch.getImages();
+        }
+    }
+
+    private static int getPixelSize(int points, float dpi) {
+        // Same scale as the viewer: PDF points are 1/72 inch
+        return Math.max(Math.round(points * dpi / 72), 1);
+    }
+
+    /**
+     * @return the given bitmap reconfigured to the new size when it fits, or a new bitmap.
+     */
+    private static Bitmap reuseBitmap(Bitmap bitmap, int width, int height) {
+        if (bitmap != null) {
+            if (bitmap.getWidth() == width && bitmap.getHeight() == height) return bitmap;
+            if ((long) width * height * 4 <= bitmap.getAllocationByteCount()) {
+                bitmap.reconfigure(width, height, Bitmap.Config.ARGB_8888);
+                return bitmap;
+            }
+            bitmap.recycle();
+        }
+        return Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+    }
+
+    @SuppressWarnings("deprecation")
+    private static Bitmap.CompressFormat getCompressFormat(String format) {
+        switch (format) {
+            case "png":
+                return Bitmap.CompressFormat.PNG;
+            case "jpeg":
+                return Bitmap.CompressFormat.JPEG;
+            case "webp":
+                return Build.VERSION.SDK_INT >= Build.VERSION_CODES.R
+                        ? Bitmap.CompressFormat.WEBP_LOSSY
+                        : Bitmap.CompressFormat.WEBP;
+            default:
+                throw new IllegalArgumentException("Invalid format: " + format);
+        }
+    }
+
+    public interface Callback {
+        /**
+         * @param page      index of the page just written.
+         * @param completed number of pages written so far.
+         */
+        void onProgress(int page, int completed, int total, @NonNull File image);
+
+        void onComplete(@NonNull List<File> images);
+
+        void onCancel();
+
+        void onError(@NonNull Exception e);
+    }
+
+    private static class Job {
+        private volatile boolean cancelled;
+    }
+
+    /**
+     * Pages of an export, taken in order by the workers, each rendering into its own reused bitmap.
+     */
+    private class Batch {
+        private final Job job;
+        private final String name;
+        private final int firstPage;
+        private final int lastPage;
+        private final int total;
+        private final float dpi;
+        private final String format;
+        private final Bitmap.CompressFormat compressFormat;
+        private final Callback callback;
+        private final File[] images;
+        private final AtomicInteger nextPage;
+        private final AtomicInteger completed = new AtomicInteger();
+        /*
+         * Set when a worker fails, so the others stop.
+         */
+        private volatile boolean stopped;
+
+        Batch(Job job, String name, int firstPage, int lastPage, float dpi, String format,
+              Bitmap.CompressFormat compressFormat, Callback callback) {
+            this.job = job;
+            this.name = name;
+            this.firstPage = firstPage;
+            this.lastPage = lastPage;
+            this.total = lastPage - firstPage + 1;
+            this.dpi = dpi;
+            this.format = format;
+            this.compressFormat = compressFormat;
+            this.callback = callback;
+            this.images = new File[total];
+            this.nextPage = new AtomicInteger(firstPage);
+        }
+
+        void renderPages(PdfRenderer renderer) throws IOException {
+            Bitmap bitmap = null;
+            try {
+                int position;
+                while (!job.cancelled && !stopped && (position = nextPage.getAndIncrement()) <= lastPage) {
+                    var image = new File(mOutputDir, name + "-" + position + "-" + Math.round(dpi) + "." + format);
+                    // Yields to the viewers and the thumbnails between pages
+                    RenderScheduler.enterLane(RenderScheduler.LANE_EXPORT);
+                    try {
+                        try (var page = renderer.openPage(position)) {
+                            var width = getPixelSize(page.getWidth(), dpi);
+                            var height = getPixelSize(page.getHeight(), dpi);
+                            if ((long) width * height > MAX_PIXELS) {
+                                throw new IllegalArgumentException("Page " + position + " is too large for " + dpi + " dpi");
+                            }
+                            bitmap = reuseBitmap(bitmap, width, height);
+                            // Fill the bitmap with white color by default to prevent issues with transparent PDFs
+                            bitmap.eraseColor(Color.WHITE);
+                            page.render(bitmap, null, null, PdfRenderer.Page.RENDER_MODE_FOR_DISPLAY);
+                        }
+
+                        write(bitmap, image);
+                    } finally {
+                        RenderScheduler.exitLane(RenderScheduler.LANE_EXPORT);
+                    }
+                    images[position - firstPage] = image;
+                    callback.onProgress(position, completed.incrementAndGet(), total, image);
+                }
+            } catch (IOException | RuntimeException e) {
+                stopped = true;
+                throw e;
+            } finally {
+                if (bitmap != null) {
+                    bitmap.recycle();
+                }
+            }
+        }
+
+        /**
+         * Writes to a temporary file of its own and then renames it, so the concurrent exports of the same page
+         * never write to the same file, and the image is always complete for the exports already returned.
+         */
+        private void write(Bitmap bitmap, File image) throws IOException {
+            var temporary = File.createTempFile(image.getName(), ".tmp", mOutputDir);
+            try {
+                try (var output = new FileOutputStream(temporary)) {
+                    bitmap.compress(compressFormat, QUALITY, output);
+                }
+                if (!temporary.renameTo(image)) {
+                    throw new IOException("Unable to write the page " + image.getName());
+                }
+            } finally {
+                temporary.delete();
+            }
+        }
+
+        /**
+         * @return the images written, in page order.
+         */
+        List<File> getImages() {
+            var result = new ArrayList<File>();
+            for (var image : images) {
+                if (image != null) {
+                    result.add(image);
+                }
+            }
+            return result;
+        }
+    }
+}
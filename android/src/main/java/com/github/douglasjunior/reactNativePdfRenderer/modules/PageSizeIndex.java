@@ -0,0 +1,184 @@
+// MIT License
+
+// Copyright (c) 2026 Douglas Nassif Roma Junior
+
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.github.douglasjunior.reactNativePdfRenderer.modules;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Width and height of every page of a document, read once when the document is opened,
+ * so the pages can be measured and positioned without being opened again.
+ * <p>
+ * Also keeps whether each page is grayscale, once known from its first render, to choose its {@link BitmapFormat}.
+ */
+public class PageSizeIndex {
+    /**
+     * Layouts with their page offsets kept at the same time, for the viewers showing the document with different widths.
+     */
+    private static final int MAX_LAYOUTS = 4;
+
+    private final int[] mWidths;
+    private final int[] mHeights;
+    /*
+     * Written and read by the document thread and the renderer pool threads.
+     */
+    private final AtomicIntegerArray mGrayscale;
+    /*
+     * Page offsets by view width and spacing, the most recently used layout first. Only accessed on the main thread.
+     */
+    private final int[][] mOffsets = new int[MAX_LAYOUTS][];
+    private final long[] mOffsetsLayouts = new long[MAX_LAYOUTS];
+    private int mOffsetsCount;
+
+    PageSizeIndex(int[] widths, int[] heights) {
+        mWidths = widths;
+        mHeights = heights;
+        mGrayscale = new AtomicIntegerArray(widths.length);
+    }
+
+    /**
+     * Reads the size of all pages. Must be called on the thread that owns the renderer.
+     *
+     * @param cancelled checked before every page, as each one is opened to read its size.
+     * @return the sizes, or {@code null} if cancelled.
+     */
+    @Nullable
+    public static PageSizeIndex build(@NonNull DocumentRenderer renderer, @NonNull BooleanSupplier cancelled) {
+        var pageCount = renderer.getPageCount();
+        var widths = new int[pageCount];
+        var heights = new int[pageCount];
+        for (int i = 0; i < pageCount; i++) {
+            if (cancelled.getAsBoolean()) return null;
+            try (var page = renderer.openPage(i)) {
+                widths[i] = page.getWidth();
+                heights[i] = page.getHeight();
+            }
+        }
+        return new PageSizeIndex(widths, heights);
+    }
+
+    public int getPageCount() {
+        return mWidths.length;
+    }
+
+    /**
+     * @return page width in points (1/72 inch).
+     */
+    public int getPageWidth(int position) {
+        return mWidths[position];
+    }
+
+    /**
+     * @return page height in points (1/72 inch).
+     */
+    public int getPageHeight(int position) {
+        return mHeights[position];
+    }
+
+    /**
+     * @return whether the page is grayscale, or {@code null} if it was not rendered yet.
+     */
+    @Nullable
+    public Boolean isGrayscale(int position) {
+        var value = mGrayscale.get(position);
+        return value == 0 ? null : value > 0;
+    }
+
+    /**
+     * Keeps the first result when several renderers detect the same page.
+     */
+    public void setGrayscale(int position, boolean grayscale) {
+        mGrayscale.compareAndSet(position, 0, grayscale ? 1 : -1);
+    }
+
+    public float getAspectRatio(int position) {
+        return (float) mHeights[position] / (float) mWidths[position];
+    }
+
+    /**
+     * @return height in pixels of the page when displayed with the given width.
+     */
+    public int getItemHeight(int position, int viewWidth) {
+        return Math.round(viewWidth * getAspectRatio(position));
+    }
+
+    /**
+     * @return distance in pixels from the top of the first page to the top of the given page.
+     * Accepts {@code position == getPageCount()} to get the height of the whole document. Must be called on the main thread.
+     */
+    public int getItemOffset(int position, int viewWidth, int spacing) {
+        return getOffsets(viewWidth, spacing)[position];
+    }
+
+    /**
+     * @return the page displayed at the given distance from the top of the first page. Must be called on the main thread.
+     */
+    public int findPosition(int offset, int viewWidth, int spacing) {
+        var offsets = getOffsets(viewWidth, spacing);
+        int low = 0;
+        int high = mWidths.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (offsets[mid] <= offset) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Computed once per layout, then every lookup is O(1), also with several viewers of different widths.
+     */
+    private int[] getOffsets(int viewWidth, int spacing) {
+        var layout = ((long) viewWidth << 32) | (spacing & 0xFFFFFFFFL);
+        for (int i = 0; i < mOffsetsCount; i++) {
+            if (mOffsetsLayouts[i] == layout) {
+                var offsets = mOffsets[i];
+                moveToFront(i, offsets, layout);
+                return offsets;
+            }
+        }
+
+        // Reuses the array of the least recently used layout when all the slots are taken
+        var last = Math.min(mOffsetsCount, MAX_LAYOUTS - 1);
+        var offsets = mOffsets[last] != null ? mOffsets[last] : new int[mWidths.length + 1];
+        for (int i = 0; i < mWidths.length; i++) {
+            offsets[i + 1] = offsets[i] + getItemHeight(i, viewWidth) + spacing;
+        }
+        mOffsetsCount = last + 1;
+        moveToFront(last, offsets, layout);
+        return offsets;
+    }
+
+    private void moveToFront(int index, int[] offsets, long layout) {
+        System.arraycopy(mOffsets, 0, mOffsets, 1, index);
+        System.arraycopy(mOffsetsLayouts, 0, mOffsetsLayouts, 1, index);
+        mOffsets[0] = offsets;
+        mOffsetsLayouts[0] = layout;
+    }
+}
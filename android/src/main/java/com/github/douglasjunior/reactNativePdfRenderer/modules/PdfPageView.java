@@ -0,0 +1,102 @@
+// MIT License
+
+// Copyright (c) 2026 Douglas Nassif Roma Junior
+
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.github.douglasjunior.reactNativePdfRenderer.modules;
+
+import android.annotation.SuppressLint;
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.RectF;
+import android.widget.ImageView;
+
+import androidx.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Displays the low resolution page bitmap and, when zoomed, the high resolution
+ * tiles of the visible area drawn over it.
+ */
+@SuppressLint({"AppCompatCustomView", "ViewConstructor"})
+class PdfPageView extends ImageView {
+    private final Map<Long, Tile> mTiles = new LinkedHashMap<>();
+    private final Paint mTilePaint = new Paint(Paint.FILTER_BITMAP_FLAG);
+
+    public PdfPageView(Context context) {
+        super(context);
+    }
+
+    public boolean hasTile(long key) {
+        return mTiles.containsKey(key);
+    }
+
+    /**
+     * @param rect tile bounds in view coordinates.
+     */
+    public void addTile(long key, @NonNull Bitmap bitmap, @NonNull RectF rect) {
+        mTiles.put(key, new Tile(bitmap, rect));
+        invalidate();
+    }
+
+    /**
+     * Removes the tiles whose key is not in the given set.
+     *
+     * @return the bitmaps of the removed tiles.
+     */
+    public List<Bitmap> retainTiles(@NonNull Set<Long> keys) {
+        var removed = new ArrayList<Bitmap>();
+        for (var iterator = mTiles.entrySet().iterator(); iterator.hasNext(); ) {
+            var entry = iterator.next();
+            if (keys.contains(entry.getKey())) continue;
+            removed.add(entry.getValue().bitmap);
+            iterator.remove();
+        }
+        if (!removed.isEmpty()) {
+            invalidate();
+        }
+        return removed;
+    }
+
+    @Override
+    protected void onDraw(@NonNull Canvas canvas) {
+        super.onDraw(canvas);
+        for (var tile : mTiles.values()) {
+            canvas.drawBitmap(tile.bitmap, null, tile.rect, mTilePaint);
+        }
+    }
+
+    private static class Tile {
+        private final Bitmap bitmap;
+        private final RectF rect;
+
+        Tile(Bitmap bitmap, RectF rect) {
+            this.bitmap = bitmap;
+            this.rect = rect;
+        }
+    }
+}
@@ -29,44 +29,136 @@ import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Matrix;
-import android.graphics.pdf.PdfRenderer;
-import android.os.ParcelFileDescriptor;
+import android.graphics.RectF;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
 import android.util.Log;
 import android.util.TypedValue;
+import android.view.Choreographer;
 import android.view.GestureDetector;
 import android.view.MotionEvent;
 import android.view.ScaleGestureDetector;
+import android.view.View;
 import android.view.ViewGroup;
 import android.widget.ImageView;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.github.douglasjunior.reactNativePdfRenderer.BuildConfig;
 
-import java.io.File;
-import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 
 @SuppressLint({"ViewConstructor", "NotifyDataSetChanged"})
 public class PdfRendererRecyclerView extends RecyclerView {
+    /**
+     * Size in pixels of the tiles rendered over the zoomed pages.
+     */
+    private static final int TILE_SIZE = 512;
+    /**
+     * Delay to wait for the gestures to settle before rendering the tiles of the visible area.
+     */
+    private static final long TILES_UPDATE_DELAY_MS = 100;
+    /**
+     * Delay to coalesce the zoom changes of consecutive gestures into a single render.
+     */
+    private static final long ZOOM_UPDATE_DELAY_MS = 150;
+    /**
+     * Zoom of the quick low resolution render displayed while the full quality render runs.
+     */
+    private static final float PREVIEW_ZOOM = 0.25f;
+    /**
+     * Cache bucket of the preview renders, below the zoom buckets used by the full quality renders.
+     */
+    private static final int PREVIEW_ZOOM_BUCKET = -1;
+    /**
+     * Min interval between two render stats reports.
+     */
+    private static final long RENDER_STATS_INTERVAL_MS = 1000;
+
+    private static volatile RenderStats.Listener sGlobalRenderStatsListener;
+
     private final GestureDetector mGestureDetector;
     private final int mMinZoom = 1;
     private final ScaleGestureDetector mScaleDetector;
     private final Matrix mMatrix;
+    /*
+     * Values of mMatrix, updated whenever it changes, so the gesture and scroll
+     * callbacks read them without allocating on every frame.
+     */
+    private final float[] mMatrixValues = new float[9];
     private final ObservableZoom mZoomObserver;
     private final LayoutManager mLayoutManager;
     private final PdfRendererRecyclerViewListener mListener;
+    private final DocumentRegistry mDocumentRegistry;
+    private final PageBitmapCache mPageCache;
+    private final MemoryGovernor.Client mMemoryClient;
+    private final Matrix mInverseMatrix = new Matrix();
+    private final RectF mViewport = new RectF();
+    private final RectF mPageViewport = new RectF();
+    private final Runnable mUpdateTilesRunnable = this::updateTiles;
+    private final Runnable mUpdateZoomRunnable = this::updateZoom;
+    private final RenderStats mRenderStats = new RenderStats();
+    private final Runnable mReportRenderStatsRunnable = this::reportRenderStats;
+    private boolean mRenderStatsEnabled;
+    private boolean mRenderStatsScheduled;
+    private final Choreographer.FrameCallback mViewportFrameCallback = frameTimeNanos -> onViewportFrame();
+    private final Choreographer.FrameCallback mThrottledViewportCallback = frameTimeNanos -> {
+        mViewportChangeThrottled = false;
+        dispatchViewportChange();
+    };
+    private final RectF mPageVisibleRect = new RectF();
+    private boolean mViewportChangeEnabled;
+    private long mViewportChangeThrottleMs;
+    private boolean mViewportFrameScheduled;
+    private boolean mViewportChangeThrottled;
+    private long mLastViewportChangeTime;
+    /*
+     * First page, last page, zoom, scroll offset and then the visible fractions: the ones being computed
+     * and the last reported ones, swapped when reported so the frames without changes allocate nothing.
+     */
+    private float[] mViewportValues = new float[16];
+    private float[] mLastViewport = new float[16];
+    private int mLastViewportLength;
+    private float mPendingZoom = 1;
     private boolean mRequestedLayout = false;
     private float mMaxZoom = 5;
     private float mMaxPageResolution;
+    private long mMaxPageCacheSize;
+    private float mRenderScale = 1;
     private float mDistanceBetweenPages = 0;
     private int mWidth;
     private int mHeight;
     private int mCurrentItemPosition = -1;
     private boolean mSinglePage;
+    private String mSourceIdentity;
+    private int mSourceGeneration;
+    private int mPrefetchPages = 2;
+    private int mRenderThreads = 1;
+    private BitmapFormat mBitmapFormat = BitmapFormat.ARGB_8888;
+    private PageDiskCache mDiskCache;
+    private int mPrefetchDirection;
+    private int mPrefetchFromPosition = NO_POSITION;
+    /*
+     * Animated part of scrollToPage, started once the jump next to the destination is laid out.
+     */
+    private Runnable mPendingSmoothScroll;
 
-    public PdfRendererRecyclerView(@NonNull Context context, PdfRendererRecyclerViewListener listener) {
+    /**
+     * @param documentRegistry shares the open documents and the rendered pages with the other viewers.
+     */
+    public PdfRendererRecyclerView(@NonNull Context context, PdfRendererRecyclerViewListener listener, DocumentRegistry documentRegistry) {
         super(context);
 
         mZoomObserver = new ObservableZoom(mMinZoom);
@@ -81,12 +173,40 @@ public class PdfRendererRecyclerView extends RecyclerView {
         this.addOnScrollListener(new OnScrollListener() {
             @Override
             public void onScrolled(@NonNull RecyclerView recyclerView, int dx, int dy) {
-                dispatchPageChangeEvent();
+                scheduleViewportChange();
+                requestTilesUpdate();
+                prefetch(dy);
             }
         });
 
         mListener = listener;
+        mDocumentRegistry = documentRegistry;
+        mPageCache = documentRegistry.getPageCache();
+        mMemoryClient = new MemoryGovernor.Client() {
+            @Override
+            public void onMemoryBudgetChange(long budget, long clientBudget, float renderScale) {
+                var pageCacheSize = getPageCacheSize(clientBudget);
+                mDocumentRegistry.setPageCacheSize(PdfRendererRecyclerView.this, pageCacheSize);
+                var previousRenderScale = mRenderScale;
+                mRenderScale = renderScale;
+                if (renderScale > previousRenderScale) {
+                    // Cached pages were rendered with a lower resolution, by this or the other viewers
+                    mPageCache.evictAll();
+                    var adapter = getAdapter();
+                    if (adapter != null) {
+                        adapter.notifyItemRangeChanged(0, adapter.getItemCount());
+                    }
+                }
+                mListener.onMemoryBudgetChange(PdfRendererRecyclerView.this, budget, pageCacheSize, renderScale);
+            }
+
+            @Override
+            public void onTrimMemory(int level) {
+                mPageCache.onTrimMemory(level);
+            }
+        };
         mMatrix = new Matrix();
+        mMatrix.getValues(mMatrixValues);
         mScaleDetector = new ScaleGestureDetector(getContext(), new ScaleListener());
         mGestureDetector = new GestureDetector(context, new GestureListener());
 
@@ -103,13 +223,234 @@ public class PdfRendererRecyclerView extends RecyclerView {
     }
 
     public void setMaxPageResolution(float maxPageResolution) {
+        if (maxPageResolution == this.mMaxPageResolution) return;
         this.mMaxPageResolution = maxPageResolution;
+        // Cached pages were rendered with the previous resolution limit
+        evictDocumentPages();
+    }
+
+    /**
+     * @param maxPageCacheSize max size in bytes of the rendered pages kept in memory, or {@code 0} to use the default.
+     *                         It is always limited by this viewer's share of the {@link MemoryGovernor} budget.
+     */
+    public void setMaxPageCacheSize(float maxPageCacheSize) {
+        mMaxPageCacheSize = (long) Math.max(maxPageCacheSize, 0);
+        if (isAttachedToWindow()) {
+            mDocumentRegistry.setPageCacheSize(this, getPageCacheSize(MemoryGovernor.getInstance().getClientBudget()));
+        }
+    }
+
+    private int getPageCacheSize(long clientBudget) {
+        var size = mMaxPageCacheSize > 0 ? Math.min(mMaxPageCacheSize, clientBudget) : clientBudget;
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Removes the cached pages of the current document, also for the other viewers showing it.
+     */
+    private void evictDocumentPages() {
+        if (mSourceIdentity != null) {
+            mPageCache.evictDocument(mSourceIdentity);
+        }
+    }
+
+    /**
+     * Sets a listener that receives the render stats of every viewer, useful to monitor the rendering from native code.
+     */
+    public static void setGlobalRenderStatsListener(@Nullable RenderStats.Listener listener) {
+        sGlobalRenderStatsListener = listener;
+    }
+
+    /**
+     * @param viewportChangeEnabled whether the viewport changes are reported to {@link PdfRendererRecyclerViewListener#onViewportChange}.
+     */
+    public void setViewportChangeEnabled(boolean viewportChangeEnabled) {
+        mViewportChangeEnabled = viewportChangeEnabled;
+        mLastViewportLength = 0;
+        if (viewportChangeEnabled) {
+            scheduleViewportChange();
+        }
+    }
+
+    /**
+     * @param viewportChangeThrottleMs min interval between the viewport events, {@code 0} reports at most one per frame.
+     */
+    public void setViewportChangeThrottle(float viewportChangeThrottleMs) {
+        mViewportChangeThrottleMs = (long) Math.max(viewportChangeThrottleMs, 0);
+    }
+
+    /**
+     * @param renderStatsEnabled whether the render stats are reported to {@link PdfRendererRecyclerViewListener#onRenderStats}.
+     */
+    public void setRenderStatsEnabled(boolean renderStatsEnabled) {
+        mRenderStatsEnabled = renderStatsEnabled;
+        if (renderStatsEnabled) {
+            scheduleRenderStats();
+        }
+    }
+
+    public void setBitmapFormat(BitmapFormat bitmapFormat) {
+        if (bitmapFormat == mBitmapFormat) return;
+        mBitmapFormat = bitmapFormat;
+        // Cached pages were rendered with the previous format
+        evictDocumentPages();
+        var adapter = (PdfRendererAdapter) getAdapter();
+        if (adapter != null) {
+            adapter.notifyItemRangeChanged(0, adapter.getItemCount());
+        }
+    }
+
+    /**
+     * @param diskCacheEnabled whether the rendered pages are also kept on disk, to be displayed without rendering when reopened.
+     */
+    public void setDiskCacheEnabled(boolean diskCacheEnabled) {
+        mDiskCache = diskCacheEnabled ? PageDiskCache.getInstance(getContext()) : null;
+    }
+
+    /**
+     * @return key of the page in the {@link PageDiskCache}, including the settings that change the rendered pixels.
+     */
+    private String getDiskCacheKey(String diskDocumentKey, int position, int zoomBucket) {
+        return PageDiskCache.getKey(diskDocumentKey, position, zoomBucket,
+                mBitmapFormat.ordinal() + "-" + Math.round(mMaxPageResolution));
+    }
+
+    /**
+     * @param prefetchPages number of pages rendered ahead of the scroll direction.
+     */
+    public void setPrefetchPages(int prefetchPages) {
+        mPrefetchPages = Math.max(prefetchPages, 0);
+    }
+
+    /**
+     * @param renderThreads number of renderers prefetching pages in parallel, the extra ones are shared by
+     *                      the viewers showing the same document.
+     */
+    public void setRenderThreads(int renderThreads) {
+        mRenderThreads = Math.max(renderThreads, 1);
+    }
+
+    /**
+     * @return renderers used by the prefetch, limited by the cores and by a quarter of the page cache share,
+     * since every renderer holds a page bitmap while rendering.
+     */
+    private int getPrefetchRenderers(int position) {
+        if (mRenderThreads <= 1) return 1;
+        var adapter = (PdfRendererAdapter) getAdapter();
+        if (adapter == null) return 1;
+        var pageBytes = Math.max((long) mWidth * Math.round(mWidth * adapter.getPageAspectRatio(position)) * 4, 1);
+        var renderersByMemory = getPageCacheSize(MemoryGovernor.getInstance().getClientBudget()) / 4 / pageBytes;
+        return (int) Math.max(Math.min(Math.min(mRenderThreads, RendererPool.getMaxSize()), renderersByMemory), 1);
     }
 
     public void setMaxZoom(float maxZoom) {
         this.mMaxZoom = maxZoom;
     }
 
+    public float getMaxZoom() {
+        return mMaxZoom;
+    }
+
+    public boolean isSinglePage() {
+        return mSinglePage;
+    }
+
+    /**
+     * @return identity of the current source, as given to {@link PdfSource#getIdentity()}.
+     */
+    @Nullable
+    public String getSourceIdentity() {
+        return mSourceIdentity;
+    }
+
+    /**
+     * Coalesces the scroll and zoom changes into one page change check and one viewport event per frame.
+     */
+    private void scheduleViewportChange() {
+        if (mViewportFrameScheduled) return;
+        mViewportFrameScheduled = true;
+        Choreographer.getInstance().postFrameCallback(mViewportFrameCallback);
+    }
+
+    private void onViewportFrame() {
+        mViewportFrameScheduled = false;
+        dispatchPageChangeEvent();
+
+        if (!mViewportChangeEnabled || mViewportChangeThrottled) return;
+        var delay = mLastViewportChangeTime + mViewportChangeThrottleMs - SystemClock.uptimeMillis();
+        if (delay > 0) {
+            // Reports the latest viewport once the throttle interval ends
+            mViewportChangeThrottled = true;
+            Choreographer.getInstance().postFrameCallbackDelayed(mThrottledViewportCallback, delay);
+            return;
+        }
+        dispatchViewportChange();
+    }
+
+    private void dispatchViewportChange() {
+        var adapter = getAdapter();
+        if (!mViewportChangeEnabled || adapter == null || adapter.getItemCount() == 0) return;
+
+        mMatrix.invert(mInverseMatrix);
+        mViewport.set(0, 0, getWidth(), getHeight());
+        mInverseMatrix.mapRect(mViewport);
+
+        var firstPage = NO_POSITION;
+        var lastPage = NO_POSITION;
+        for (int i = 0; i < getChildCount(); i++) {
+            var position = getChildAdapterPosition(getChildAt(i));
+            if (position == NO_POSITION || getVisibleFraction(getChildAt(i)) <= 0) continue;
+            firstPage = firstPage == NO_POSITION ? position : Math.min(firstPage, position);
+            lastPage = Math.max(lastPage, position);
+        }
+        if (firstPage == NO_POSITION) return;
+
+        // First page, last page, zoom, scroll offset and the visible fraction of each page in between
+        var length = 4 + lastPage - firstPage + 1;
+        if (mViewportValues.length < length) {
+            mViewportValues = new float[Math.max(length, mViewportValues.length * 2)];
+        }
+        var viewport = mViewportValues;
+        Arrays.fill(viewport, 4, length, 0);
+        viewport[0] = firstPage;
+        viewport[1] = lastPage;
+        viewport[2] = mMatrixValues[Matrix.MSCALE_X];
+        // Top of the visible area in the document, in dp at zoom 1
+        viewport[3] = (computeVerticalScrollOffset() + mViewport.top) / getResources().getDisplayMetrics().density;
+        for (int i = 0; i < getChildCount(); i++) {
+            var child = getChildAt(i);
+            var position = getChildAdapterPosition(child);
+            if (position < firstPage || position > lastPage) continue;
+            viewport[4 + position - firstPage] = getVisibleFraction(child);
+        }
+
+        if (isLastViewport(viewport, length)) return;
+        mViewportValues = mLastViewport;
+        mLastViewport = viewport;
+        mLastViewportLength = length;
+        mLastViewportChangeTime = SystemClock.uptimeMillis();
+        mListener.onViewportChange(this, firstPage, lastPage, Arrays.copyOfRange(viewport, 4, length),
+                viewport[2], viewport[3]);
+    }
+
+    private boolean isLastViewport(float[] viewport, int length) {
+        if (length != mLastViewportLength) return false;
+        for (int i = 0; i < length; i++) {
+            if (Float.compare(viewport[i], mLastViewport[i]) != 0) return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return fraction of the page area inside {@link #mViewport}.
+     */
+    private float getVisibleFraction(View child) {
+        var area = (float) child.getWidth() * child.getHeight();
+        mPageVisibleRect.set(child.getLeft(), child.getTop(), child.getRight(), child.getBottom());
+        if (area <= 0 || !mPageVisibleRect.intersect(mViewport)) return 0;
+        return mPageVisibleRect.width() * mPageVisibleRect.height() / area;
+    }
+
     private void dispatchPageChangeEvent() {
         var newPosition = mLayoutManager.findLastCompletelyVisibleItemPosition();
         if (newPosition < 0) newPosition = mLayoutManager.findLastVisibleItemPosition();
@@ -124,16 +465,247 @@ public class PdfRendererRecyclerView extends RecyclerView {
         }
     }
 
-    public void updateSource(File file) throws IOException {
+    /**
+     * Resolves the source in background, dropping the result if another source is resolved or the view is released meanwhile.
+     *
+     * @param callback invoked on the main thread.
+     */
+    public void resolveSource(String source, Consumer<PdfSource> callback) {
+        var generation = ++mSourceGeneration;
+        PdfSource.resolve(getContext(), source, pdfSource -> {
+            if (generation != mSourceGeneration) return;
+            callback.accept(pdfSource);
+        });
+    }
+
+    /**
+     * Opens the document in background, cancelling the previous open if it did not finish yet.
+     *
+     * @param source        the PDF, its identity is used as cache key.
+     * @param errorCallback invoked on the main thread if the document can not be opened.
+     */
+    public void updateSource(PdfSource source, Runnable errorCallback) {
         mCurrentItemPosition = -1;
+        mPrefetchDirection = 0;
+        mPrefetchFromPosition = NO_POSITION;
+        mPendingSmoothScroll = null;
+        mSourceIdentity = source.getIdentity();
+        mRenderStats.reset();
         var adapter = (PdfRendererAdapter) getAdapter();
         if (adapter == null) return;
         adapter.close();
-        adapter.updateSource(file);
         adapter.notifyDataSetChanged();
+        adapter.updateSource(source, () -> {
+            // Allows the same source to be tried again
+            mSourceIdentity = null;
+            errorCallback.run();
+        });
+    }
+
+    /**
+     * Updates the size and the number of the displayed pages, keeping the document and the rendered pages.
+     */
+    public void invalidatePageLayout(boolean wasSinglePage) {
+        var adapter = (PdfRendererAdapter) getAdapter();
+        if (adapter == null) return;
+        var pageCount = adapter.getPageCount();
+        if (pageCount > 1 && wasSinglePage != mSinglePage) {
+            if (mSinglePage) {
+                adapter.notifyItemRangeRemoved(1, pageCount - 1);
+            } else {
+                adapter.notifyItemRangeInserted(1, pageCount - 1);
+            }
+        }
+        adapter.notifyItemRangeChanged(0, adapter.getItemCount(), PdfRendererAdapter.PAYLOAD_LAYOUT);
+    }
+
+    /**
+     * Scrolls to the top of the page. Long jumps skip straight to the destination,
+     * so only the pages around it are laid out and rendered.
+     *
+     * @param animated animates the scroll, only through the page before the destination.
+     */
+    public void scrollToPage(int index, boolean animated) {
+        var adapter = (PdfRendererAdapter) getAdapter();
+        if (adapter == null || adapter.getItemCount() == 0) return;
+
+        var position = Math.max(0, Math.min(index, adapter.getItemCount() - 1));
+        var pageSizes = getPageSizes();
+        stopScroll();
+        mPendingSmoothScroll = null;
+
+        if (!animated || pageSizes == null) {
+            mLayoutManager.scrollToPositionWithOffset(position, 0);
+            return;
+        }
+
+        Runnable smoothScroll = () -> {
+            // The offsets come from the page sizes, the pages in between are never laid out
+            var distance = pageSizes.getItemOffset(position, mWidth, (int) mDistanceBetweenPages)
+                    - computeVerticalScrollOffset();
+            // Scroll distances are divided by the zoom in the layout manager
+            smoothScrollBy(0, Math.round(distance * mMatrixValues[Matrix.MSCALE_Y]));
+        };
+
+        var currentPosition = mLayoutManager.findFirstVisibleItemPosition();
+        if (currentPosition == NO_POSITION || Math.abs(position - currentPosition) <= 1) {
+            smoothScroll.run();
+            return;
+        }
+        mPendingSmoothScroll = smoothScroll;
+        mLayoutManager.scrollToPositionWithOffset(position > currentPosition ? position - 1 : position + 1, 0);
+    }
+
+    private void onSourceLoaded(int totalPages, long openMillis) {
+        var adapter = (PdfRendererAdapter) getAdapter();
+        if (adapter == null) return;
+        adapter.notifyDataSetChanged();
+        forceRequestLayout();
+        mRenderStats.recordOpen(openMillis);
+        scheduleRenderStats();
+        mListener.onLoadComplete(this, totalPages, openMillis);
         post(this::dispatchPageChangeEvent);
     }
 
+    /**
+     * Reports the render stats after {@link #RENDER_STATS_INTERVAL_MS}, coalescing the changes until then.
+     */
+    private void scheduleRenderStats() {
+        if (mRenderStatsScheduled) return;
+        if (!mRenderStatsEnabled && sGlobalRenderStatsListener == null) return;
+        mRenderStatsScheduled = true;
+        postDelayed(mReportRenderStatsRunnable, RENDER_STATS_INTERVAL_MS);
+    }
+
+    private void reportRenderStats() {
+        mRenderStatsScheduled = false;
+        var stats = mRenderStats.snapshot(
+                mPageCache.getAllocatedBytes(),
+                mPageCache.getHitCount(),
+                mPageCache.getMissCount()
+        );
+        var globalListener = sGlobalRenderStatsListener;
+        if (globalListener != null) {
+            globalListener.onRenderStats(this, stats);
+        }
+        if (mRenderStatsEnabled) {
+            mListener.onRenderStats(this, stats);
+        }
+    }
+
+    /**
+     * Releases the document, closing it if no other viewer is showing it.
+     * The view must not be used after calling this method.
+     */
+    public void release() {
+        var adapter = (PdfRendererAdapter) getAdapter();
+        if (adapter == null) return;
+        mSourceGeneration++;
+        removeCallbacks(mUpdateTilesRunnable);
+        removeCallbacks(mUpdateZoomRunnable);
+        removeCallbacks(mReportRenderStatsRunnable);
+        mRenderStatsScheduled = false;
+        adapter.releaseViewHolders();
+        adapter.release();
+        if (BuildConfig.DEBUG) {
+            var pool = mPageCache.getPool();
+            Log.d("PdfRendererRecyclerView", "Bitmap pool hits: " + pool.getHitCount() + ", misses: " + pool.getMissCount());
+        }
+    }
+
+    @Override
+    protected void onAttachedToWindow() {
+        super.onAttachedToWindow();
+        MemoryGovernor.getInstance().register(getContext(), mMemoryClient);
+        var adapter = getAdapter();
+        if (adapter != null && adapter.getItemCount() > 0) {
+            // The pages were released when detached
+            adapter.notifyItemRangeChanged(0, adapter.getItemCount());
+        }
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+        MemoryGovernor.getInstance().unregister(mMemoryClient);
+        var adapter = (PdfRendererAdapter) getAdapter();
+        if (adapter != null) {
+            // Before the share is removed, so the bitmaps are freed with the page cache if it was the last viewer
+            adapter.releaseViewHolders();
+        }
+        mDocumentRegistry.removePageCacheSize(this);
+        Choreographer.getInstance().removeFrameCallback(mViewportFrameCallback);
+        Choreographer.getInstance().removeFrameCallback(mThrottledViewportCallback);
+        mViewportFrameScheduled = false;
+        mViewportChangeThrottled = false;
+    }
+
+    private void prefetch(int dy) {
+        var adapter = (PdfRendererAdapter) getAdapter();
+        if (adapter == null || dy == 0) return;
+
+        if (mSinglePage || mPrefetchPages == 0) {
+            adapter.cancelPrefetch();
+            return;
+        }
+
+        var direction = dy > 0 ? 1 : -1;
+        var fromPosition = direction > 0
+                ? mLayoutManager.findLastVisibleItemPosition()
+                : mLayoutManager.findFirstVisibleItemPosition();
+        if (fromPosition == NO_POSITION) return;
+        if (direction == mPrefetchDirection && fromPosition == mPrefetchFromPosition) return;
+
+        // Restarting also cancels the pages left from the previous direction
+        mPrefetchDirection = direction;
+        mPrefetchFromPosition = fromPosition;
+        adapter.prefetch(fromPosition + direction, direction, mPrefetchPages);
+    }
+
+    /**
+     * Until the zoom settles, the pages are displayed scaled by the matrix and then rendered once for the final zoom.
+     */
+    private void requestZoomUpdate(float zoom) {
+        mPendingZoom = zoom;
+        removeCallbacks(mUpdateZoomRunnable);
+        postDelayed(mUpdateZoomRunnable, ZOOM_UPDATE_DELAY_MS);
+    }
+
+    private void updateZoom() {
+        mZoomObserver.setZoom(mPendingZoom);
+        requestTilesUpdate();
+    }
+
+    private void requestTilesUpdate() {
+        removeCallbacks(mUpdateTilesRunnable);
+        postDelayed(mUpdateTilesRunnable, TILES_UPDATE_DELAY_MS);
+    }
+
+    /**
+     * Renders the high resolution tiles of the area of each page that is visible through the zoom matrix.
+     */
+    private void updateTiles() {
+        var zoom = mZoomObserver.getZoom();
+
+        mMatrix.invert(mInverseMatrix);
+        mViewport.set(0, 0, getWidth(), getHeight());
+        mInverseMatrix.mapRect(mViewport);
+
+        for (int i = 0; i < getChildCount(); i++) {
+            var child = getChildAt(i);
+            var holder = (PdfRendererAdapter.ViewHolder) getChildViewHolder(child);
+            if (holder == null) continue;
+
+            mPageViewport.set(child.getLeft(), child.getTop(), child.getRight(), child.getBottom());
+            if (mPageViewport.intersect(mViewport)) {
+                mPageViewport.offset(-child.getLeft(), -child.getTop());
+            } else {
+                mPageViewport.setEmpty();
+            }
+            holder.updateTiles(mPageViewport, zoom);
+        }
+    }
+
     @Override
     protected void dispatchDraw(@NonNull Canvas canvas) {
         canvas.save();
@@ -161,18 +733,11 @@ public class PdfRendererRecyclerView extends RecyclerView {
                 : 1;
         mMatrix.setScale(scale, scale);
         mMatrix.postTranslate((w - scale * mWidth) / 2f, (h - scale * mHeight) / 2f);
+        mMatrix.getValues(mMatrixValues);
     }
 
     private boolean isScrollingInsideZoomedArea() {
-        var values = new float[9];
-        mMatrix.getValues(values);
-
-        var scaleY = Math.min(Math.max(values[Matrix.MSCALE_Y], mMinZoom), mMaxZoom);
-        var posY = values[Matrix.MTRANS_Y];
-
-        var maxPosY = mHeight - mHeight * scaleY;
-
-        return posY < 0 && posY > maxPosY;
+        return MatrixLimits.isInsideZoomedArea(mMatrixValues, mMinZoom, mMaxZoom, mHeight);
     }
 
     @Override
@@ -207,35 +772,14 @@ public class PdfRendererRecyclerView extends RecyclerView {
         requestLayout();
     }
 
+    /**
+     * Must be called after every change to {@link #mMatrix}, it also refreshes {@link #mMatrixValues}.
+     */
     private void validateMatrixLimits() {
-        var values = new float[9];
-        mMatrix.getValues(values);
-
-        var scaleX = Math.min(Math.max(values[Matrix.MSCALE_X], mMinZoom), mMaxZoom);
-        var posX = values[Matrix.MTRANS_X];
-
-        var scaleY = Math.min(Math.max(values[Matrix.MSCALE_Y], mMinZoom), mMaxZoom);
-        var posY = values[Matrix.MTRANS_Y];
-
-        var maxPosX = mWidth - mWidth * scaleX;
-        var maxPosY = mHeight - mHeight * scaleY;
-
-        if (posX > 0.0f)
-            posX = 0.0f;
-        else if (posX < maxPosX)
-            posX = maxPosX;
-
-        if (posY > 0.0f)
-            posY = 0.0f;
-        else if (posY < maxPosY)
-            posY = maxPosY;
-
-        values[Matrix.MSCALE_X] = scaleX;
-        values[Matrix.MTRANS_X] = posX;
-        values[Matrix.MSCALE_Y] = scaleY;
-        values[Matrix.MTRANS_Y] = posY;
-
-        mMatrix.setValues(values);
+        mMatrix.getValues(mMatrixValues);
+        MatrixLimits.clamp(mMatrixValues, mMinZoom, mMaxZoom, mWidth, mHeight);
+        mMatrix.setValues(mMatrixValues);
+        scheduleViewportChange();
     }
 
     /**
@@ -265,20 +809,39 @@ public class PdfRendererRecyclerView extends RecyclerView {
         mMatrix.setScale(1, 1, 0, 0);
         validateMatrixLimits();
         postInvalidateOnAnimation();
+        removeCallbacks(mUpdateZoomRunnable);
         mZoomObserver.setZoom(1);
+        requestTilesUpdate();
     }
 
     public interface PdfRendererRecyclerViewListener {
         void onPageChange(PdfRendererRecyclerView target, int position, int total);
+
+        void onLoadStart(PdfRendererRecyclerView target);
+
+        void onLoadComplete(PdfRendererRecyclerView target, int totalPages, long openMillis);
+
+        void onRenderStats(PdfRendererRecyclerView target, RenderStats.Snapshot stats);
+
+        /**
+         * @param budget        page cache bytes available to all the viewers together.
+         * @param pageCacheSize page cache bytes available to this viewer.
+         * @param renderScale   factor applied to the render resolution, below {@code 1} under memory pressure.
+         */
+        void onMemoryBudgetChange(PdfRendererRecyclerView target, long budget, long pageCacheSize, float renderScale);
+
+        /**
+         * @param visibleFractions fraction of the area of each page from {@code firstPage} to {@code lastPage} that is visible.
+         * @param scrollOffset     top of the visible area in the document, in dp at zoom {@code 1}.
+         */
+        void onViewportChange(PdfRendererRecyclerView target, int firstPage, int lastPage, float[] visibleFractions,
+                              float zoom, float scrollOffset);
     }
 
-    private class ScaleListener extends ScaleGestureDetector.SimpleOnScaleGestureListener {
+    class ScaleListener extends ScaleGestureDetector.SimpleOnScaleGestureListener {
         @Override
         public boolean onScale(ScaleGestureDetector detector) {
-            var values = new float[9];
-            mMatrix.getValues(values);
-
-            var zoom = values[Matrix.MSCALE_X];
+            var zoom = mMatrixValues[Matrix.MSCALE_X];
             var factor = detector.getScaleFactor();
 
             if (zoom >= mMaxZoom && factor > 1) {
@@ -296,20 +859,19 @@ public class PdfRendererRecyclerView extends RecyclerView {
         public void onScaleEnd(@NonNull ScaleGestureDetector detector) {
             super.onScaleEnd(detector);
 
-            var values = new float[9];
-            mMatrix.getValues(values);
-            var zoom = values[Matrix.MSCALE_X];
+            var zoom = mMatrixValues[Matrix.MSCALE_X];
 
-            mZoomObserver.setZoom(zoom);
+            requestZoomUpdate(zoom);
         }
     }
 
-    private class GestureListener extends GestureDetector.SimpleOnGestureListener {
+    class GestureListener extends GestureDetector.SimpleOnGestureListener {
         @Override
         public boolean onScroll(MotionEvent e1, @NonNull MotionEvent e2, float dX, float dY) {
             mMatrix.postTranslate(-dX, -dY);
             validateMatrixLimits();
             postInvalidateOnAnimation();
+            requestTilesUpdate();
             return true;
         }
 
@@ -319,10 +881,7 @@ public class PdfRendererRecyclerView extends RecyclerView {
                 return false;
             }
 
-            var values = new float[9];
-            mMatrix.getValues(values);
-
-            var currentZoom = values[Matrix.MSCALE_X];
+            var currentZoom = mMatrixValues[Matrix.MSCALE_X];
             var newZoom = currentZoom > mMinZoom ? mMinZoom : mMaxZoom;
             var centerX = getWidth() / 2f;
             var centerY = getHeight() / 2f;
@@ -334,48 +893,330 @@ public class PdfRendererRecyclerView extends RecyclerView {
 
             postInvalidateOnAnimation();
 
-            mZoomObserver.setZoom(newZoom);
+            requestZoomUpdate(newZoom);
             return true;
         }
     }
 
     class PdfRendererAdapter extends Adapter<PdfRendererAdapter.ViewHolder> {
-        private PdfRenderer mPdfRenderer;
-        private ParcelFileDescriptor mFileDescriptor;
+        /**
+         * A4 portrait, used to size placeholders until the page sizes are known.
+         */
+        private static final float DEFAULT_PAGE_ASPECT_RATIO = 297f / 210f;
+        /**
+         * Bind payload to update the page size without rendering it again.
+         */
+        static final Object PAYLOAD_LAYOUT = new Object();
 
-        public void updateSource(File file) throws IOException {
-            mFileDescriptor = ParcelFileDescriptor.open(file, ParcelFileDescriptor.MODE_READ_ONLY);
-            mPdfRenderer = new PdfRenderer(mFileDescriptor);
+        private final Handler mMainHandler = new Handler(Looper.getMainLooper());
+        /*
+         * Every holder created, also the ones in the RecyclerView caches that are not children.
+         */
+        private final Set<ViewHolder> mViewHolders = Collections.newSetFromMap(new WeakHashMap<>());
+        /*
+         * Render thread of the document, shared with the other viewers showing it.
+         */
+        private RenderScheduler mRenderScheduler;
+        private DocumentRenderer mPdfRenderer;
+        private DocumentRegistry.Document mDocument;
+        private DocumentRegistry.Document mOpeningDocument;
+        private int mOpenGeneration;
+        private final List<Future<?>> mPrefetchTasks = new ArrayList<>();
+        private volatile int mPrefetchGeneration;
+        private String mDocumentKey;
+        /*
+         * Prefix of the keys of the pages in the PageDiskCache, so the binds do not hash the identity.
+         */
+        private String mDiskDocumentKey;
+        private int mPageCount;
+        private PageSizeIndex mPageSizes;
+
+        public void updateSource(PdfSource source, Runnable errorCallback) {
+            cancelOpen();
+            var generation = mOpenGeneration;
+            var startTime = SystemClock.elapsedRealtime();
+
+            mListener.onLoadStart(PdfRendererRecyclerView.this);
+
+            mOpeningDocument = mDocumentRegistry.open(source, new DocumentRegistry.OpenCallback() {
+                @Override
+                public void onOpen(@NonNull DocumentRegistry.Document document) {
+                    if (generation != mOpenGeneration) return;
+                    var pageSizes = document.getPageSizes();
+                    if (pageSizes == null) return;
+                    mOpeningDocument = null;
+                    mDocument = document;
+                    mRenderScheduler = document.getScheduler();
+                    mPdfRenderer = document.getRenderer();
+                    mPageCount = pageSizes.getPageCount();
+                    mPageSizes = pageSizes;
+                    mDocumentKey = document.getIdentity();
+                    mDiskDocumentKey = PageDiskCache.getDocumentKey(mDocumentKey);
+                    onSourceLoaded(mPageCount, SystemClock.elapsedRealtime() - startTime);
+                }
+
+                @Override
+                public void onError() {
+                    if (generation != mOpenGeneration) return;
+                    cancelOpen();
+                    errorCallback.run();
+                }
+            });
+        }
+
+        private void cancelOpen() {
+            mOpenGeneration++;
+            if (mOpeningDocument != null) {
+                mDocumentRegistry.release(mOpeningDocument);
+                mOpeningDocument = null;
+            }
+        }
+
+        public int getPageCount() {
+            return mPageCount;
+        }
+
+        @Nullable
+        public PageSizeIndex getPageSizes() {
+            return mPageSizes;
+        }
+
+        public float getPageAspectRatio(int position) {
+            return mPageSizes != null ? mPageSizes.getAspectRatio(position) : DEFAULT_PAGE_ASPECT_RATIO;
         }
 
         public void close() {
-            if (mPdfRenderer != null) {
-                mPdfRenderer.close();
-                mPdfRenderer = null;
+            cancelOpen();
+            cancelPrefetch();
+
+            var document = mDocument;
+            mDocument = null;
+            mRenderScheduler = null;
+            mPdfRenderer = null;
+            mDocumentKey = null;
+            mDiskDocumentKey = null;
+            mPageCount = 0;
+            mPageSizes = null;
+
+            if (document != null) {
+                // The pending jobs keep running, the document is closed after them
+                mDocumentRegistry.release(document);
+            }
+        }
+
+        public void release() {
+            close();
+            mMainHandler.removeCallbacksAndMessages(null);
+        }
+
+        /**
+         * Releases the bitmaps and the tiles displayed by the holders, they show the pages again once bound again.
+         */
+        public void releaseViewHolders() {
+            for (var holder : mViewHolders) {
+                holder.recycle();
+            }
+        }
+
+        @NonNull Bitmap createBitmap(float newZoom, int pageWidth, int pageHeight, float maxPageResolution, float renderScale, Bitmap.Config config) {
+            // We need to take account of these points to avoid low quality image on large screen:
+            // - target DPI resolution
+            // - PDF print default resolution (72dpi)
+            // see https://stackoverflow.com/a/32327174/2826279
+            var scaledPageWidth = Math.round(getResources().getDisplayMetrics().densityDpi * pageWidth * newZoom / 72);
+            var scaledPageHeight = Math.round(getResources().getDisplayMetrics().densityDpi * pageHeight * newZoom / 72);
+
+            float scalingFactor = Math.min(
+                    maxPageResolution / scaledPageWidth,
+                    maxPageResolution / scaledPageHeight
+            );
+
+            // The zoom is already applied to the scaled size, here it is only limited by the max resolution
+            // and reduced under memory pressure
+            float zoomFactor = Math.min(1, scalingFactor) * renderScale;
+
+            var width = Math.round(scaledPageWidth * zoomFactor);
+            var height = Math.round(scaledPageHeight * zoomFactor);
+            var bitmap = mPageCache.getPool().get(width, height, config);
+            if (bitmap == null) {
+                bitmap = Bitmap.createBitmap(width, height, config);
+            }
+            // Fill the bitmap with white color by default to prevent issues with transparent PDFs
+            bitmap.eraseColor(Color.WHITE);
+            return bitmap;
+        }
+
+        /**
+         * Reads the page from the disk cache, or renders it and writes it to the disk cache.
+         * Must be called on the render thread.
+         *
+         * @param diskCache {@code null} to skip the disk cache.
+         */
+        Bitmap renderPage(DocumentRenderer renderer, int position, float renderZoom, float maxPageResolution, float renderScale,
+                                  @Nullable PageSizeIndex pageSizes, BitmapFormat bitmapFormat,
+                                  @Nullable PageDiskCache diskCache, @Nullable String diskCacheKey) {
+            if (diskCache != null) {
+                var bitmap = diskCache.read(diskCacheKey, mPageCache.getPool());
+                if (bitmap != null) return bitmap;
+            }
+
+            try (var page = renderer.openPage(position)) {
+                var config = getBitmapConfig(pageSizes, bitmapFormat, position);
+                var bitmap = createBitmap(renderZoom, page.getWidth(), page.getHeight(), maxPageResolution, renderScale, config);
+
+                renderInto(page, bitmap, null);
+                detectGrayscale(pageSizes, bitmapFormat, position, bitmap);
+                // Pages rendered with a lower resolution under memory pressure are not kept
+                if (diskCache != null && renderScale == 1) {
+                    diskCache.write(diskCacheKey, bitmap);
+                }
+                return bitmap;
+            }
+        }
+
+        /**
+         * {@link DocumentRenderer.Page#render} only accepts {@link Bitmap.Config#ARGB_8888} destinations, so the other
+         * formats are rendered into a pooled ARGB_8888 bitmap first and then converted into the given bitmap.
+         */
+        private void renderInto(DocumentRenderer.Page page, Bitmap bitmap, @Nullable Matrix transform) {
+            if (bitmap.getConfig() == Bitmap.Config.ARGB_8888) {
+                page.render(bitmap, transform);
+                return;
+            }
+
+            var pool = mPageCache.getPool();
+            var scratch = pool.get(bitmap.getWidth(), bitmap.getHeight(), Bitmap.Config.ARGB_8888);
+            if (scratch == null) {
+                scratch = Bitmap.createBitmap(bitmap.getWidth(), bitmap.getHeight(), Bitmap.Config.ARGB_8888);
+            }
+            try {
+                // Fill the bitmap with white color by default to prevent issues with transparent PDFs
+                scratch.eraseColor(Color.WHITE);
+                page.render(scratch, transform);
+                new Canvas(bitmap).drawBitmap(scratch, 0, 0, null);
+            } finally {
+                pool.put(scratch);
+            }
+        }
+
+        private Bitmap.Config getBitmapConfig(@Nullable PageSizeIndex pageSizes, BitmapFormat bitmapFormat, int position) {
+            return bitmapFormat.getConfig(pageSizes != null ? pageSizes.isGrayscale(position) : null);
+        }
+
+        /**
+         * In {@link BitmapFormat#AUTO} mode, the first full color render of a page tells
+         * whether the next renders of the page can use a format with less memory.
+         */
+        private void detectGrayscale(@Nullable PageSizeIndex pageSizes, BitmapFormat bitmapFormat, int position, Bitmap bitmap) {
+            if (bitmapFormat != BitmapFormat.AUTO || pageSizes == null) return;
+            if (bitmap.getConfig() != Bitmap.Config.ARGB_8888 || pageSizes.isGrayscale(position) != null) return;
+            pageSizes.setGrayscale(position, BitmapFormat.isGrayscale(bitmap));
+        }
+
+        /**
+         * Renders the next pages in the scroll direction into the page cache, one page per job
+         * so the renders of the visible pages are not delayed by the whole batch.
+         */
+        public void prefetch(int fromPosition, int direction, int count) {
+            cancelPrefetch();
+
+            var renderer = mPdfRenderer;
+            if (renderer == null) return;
+
+            var documentKey = mDocumentKey;
+            var zoomBucket = PageBitmapCache.getZoomBucket(mMinZoom);
+            var positions = new ArrayList<Integer>();
+            for (int i = 0; i < count; i++) {
+                var position = fromPosition + i * direction;
+                if (position < 0 || position >= getItemCount()) break;
+                if (mPageCache.contains(documentKey, position, zoomBucket)) continue;
+                positions.add(position);
             }
-            if (mFileDescriptor != null) {
+
+            // Each chain renders one page at a time, the first one on the document renderer and the others on its pool
+            var chains = Math.min(getPrefetchRenderers(fromPosition), Math.max(positions.size(), 1));
+            for (int chain = 0; chain < chains; chain++) {
+                prefetchNext(renderer, documentKey, zoomBucket, positions, mPrefetchGeneration, chain > 0 ? chains - 1 : 0);
+            }
+        }
+
+        /**
+         * @param poolSize size of the renderer pool used by the chain, or {@code 0} to use the document renderer.
+         */
+        private void prefetchNext(DocumentRenderer renderer, String documentKey, int zoomBucket, List<Integer> positions,
+                                  int generation, int poolSize) {
+            mPrefetchTasks.removeIf(Future::isDone);
+            if (positions.isEmpty()) return;
+
+            var position = positions.remove(0);
+            var maxPageResolution = mMaxPageResolution;
+            var renderScale = mRenderScale;
+            var pageSizes = mPageSizes;
+            var bitmapFormat = mBitmapFormat;
+            var renderZoom = PageBitmapCache.getBucketZoom(zoomBucket);
+            var diskCache = mDiskCache;
+            var diskCacheKey = diskCache != null ? getDiskCacheKey(mDiskDocumentKey, position, zoomBucket) : null;
+
+            Consumer<DocumentRenderer> render = pageRenderer -> {
+                if (generation != mPrefetchGeneration) return;
+                var startTime = SystemClock.elapsedRealtime();
                 try {
-                    mFileDescriptor.close();
-                } catch (IOException e) {
+                    var bitmap = renderPage(pageRenderer, position, renderZoom, maxPageResolution, renderScale,
+                            pageSizes, bitmapFormat, diskCache, diskCacheKey);
+                    mRenderStats.recordRender(SystemClock.elapsedRealtime() - startTime);
+
+                    mMainHandler.post(() -> {
+                        scheduleRenderStats();
+                        if (renderer != mPdfRenderer) {
+                            mRenderStats.recordDropped();
+                            mPageCache.getPool().put(bitmap);
+                            return;
+                        }
+                        if (!mPageCache.contains(documentKey, position, zoomBucket)) {
+                            mPageCache.put(documentKey, position, zoomBucket, bitmap);
+                        } else {
+                            mPageCache.getPool().put(bitmap);
+                        }
+                        if (generation != mPrefetchGeneration) return;
+                        prefetchNext(renderer, documentKey, zoomBucket, positions, generation, poolSize);
+                    });
+                } catch (Exception e) {
                     if (BuildConfig.DEBUG) {
                         // noinspection CallToPrintStackTrace
                         e.printStackTrace();
                     }
                 }
-                mFileDescriptor = null;
+            };
+
+            if (poolSize > 0) {
+                mPrefetchTasks.add(mDocument.getRendererPool(poolSize)
+                        .submit(RenderScheduler.LANE_PREFETCH, render::accept, null));
+            } else {
+                mPrefetchTasks.add(mRenderScheduler.submit(RenderScheduler.LANE_PREFETCH, () -> render.accept(renderer)));
             }
+        }
 
+        public void cancelPrefetch() {
+            mPrefetchGeneration++;
+            for (var task : mPrefetchTasks) {
+                if (task.cancel(false)) {
+                    mRenderStats.recordCancelled();
+                }
+            }
+            mPrefetchTasks.clear();
         }
 
         @NonNull
         @Override
         public ViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
-            var imageView = new ImageView(parent.getContext());
-            imageView.setScaleType(ImageView.ScaleType.FIT_CENTER);
-            imageView.setBackgroundColor(Color.WHITE);
+            var pageView = new PdfPageView(parent.getContext());
+            pageView.setScaleType(ImageView.ScaleType.FIT_CENTER);
+            pageView.setBackgroundColor(Color.WHITE);
             var params = new LayoutParams(LayoutParams.MATCH_PARENT, 0);
-            imageView.setLayoutParams(params);
-            return new ViewHolder(imageView);
+            pageView.setLayoutParams(params);
+            var holder = new ViewHolder(pageView);
+            mViewHolders.add(holder);
+            return holder;
         }
 
         @Override
@@ -390,6 +1231,21 @@ public class PdfRendererRecyclerView extends RecyclerView {
             holder.attachFromWindow();
         }
 
+        @Override
+        public void onViewRecycled(@NonNull ViewHolder holder) {
+            super.onViewRecycled(holder);
+            holder.recycle();
+        }
+
+        @Override
+        public void onBindViewHolder(@NonNull ViewHolder holder, int position, @NonNull List<Object> payloads) {
+            if (payloads.contains(PAYLOAD_LAYOUT)) {
+                holder.updateLayoutParams(position);
+                return;
+            }
+            super.onBindViewHolder(holder, position, payloads);
+        }
+
         @Override
         public void onBindViewHolder(@NonNull ViewHolder holder, int position) {
             if (mPdfRenderer == null) return;
@@ -400,80 +1256,343 @@ public class PdfRendererRecyclerView extends RecyclerView {
         public int getItemCount() {
             if (mPdfRenderer == null) return 0;
             if (mSinglePage) {
-                return Math.min(mPdfRenderer.getPageCount(), 1);
+                return Math.min(mPageCount, 1);
             }
-            return mPdfRenderer.getPageCount();
+            return mPageCount;
         }
 
         public class ViewHolder extends RecyclerView.ViewHolder {
             private ObservableZoom.ZoomChangeListener zoomListener;
-
-            public ViewHolder(ImageView imageView) {
-                super(imageView);
+            private Future<?> mRenderTask;
+            /*
+             * Incremented for every new render request, so a late result
+             * from a cancelled job never lands on a recycled holder.
+             */
+            private volatile int mRenderGeneration;
+            private int mBoundPosition = NO_POSITION;
+            private DocumentRenderer mBoundRenderer;
+            private Bitmap mBitmap;
+            private final Set<Long> mVisibleTiles = new HashSet<>();
+            private Future<?> mTilesTask;
+            private volatile int mTilesGeneration;
+            /*
+             * Also true while bound ahead of the layout, by the RecyclerView item prefetch.
+             */
+            private volatile boolean mDetached = true;
+            private volatile int mDroppedGeneration = -1;
+
+            public ViewHolder(PdfPageView pageView) {
+                super(pageView);
             }
 
             public ImageView getImageView() {
                 return (ImageView) this.itemView;
             }
 
-            private @NonNull Bitmap createBitmap(float newZoom, int pageWidth, int pageHeight) {
-                // We need to take account of these points to avoid low quality image on large screen:
-                // - target DPI resolution
-                // - PDF print default resolution (72dpi)
-                // see https://stackoverflow.com/a/32327174/2826279
-                var scaledPageWidth = Math.round(getResources().getDisplayMetrics().densityDpi * pageWidth * newZoom / 72);
-                var scaledPageHeight = Math.round(getResources().getDisplayMetrics().densityDpi * pageHeight * newZoom / 72);
+            public PdfPageView getPageView() {
+                return (PdfPageView) this.itemView;
+            }
+
+            public void update(int position, float newZoom) {
+                var renderer = mPdfRenderer;
+                if (renderer == null) return;
+
+                cancelRender();
+
+                var documentKey = mDocumentKey;
+                // When scrolling, zoomed pages get their details from the tiles, so the page itself is rendered without zoom
+                var zoomBucket = PageBitmapCache.getZoomBucket(mSinglePage ? newZoom : mMinZoom);
+                var cachedBitmap = mPageCache.get(documentKey, position, zoomBucket);
+
+                if (position != mBoundPosition || renderer != mBoundRenderer) {
+                    mBoundPosition = position;
+                    mBoundRenderer = renderer;
+                    clearTiles();
+                    if (cachedBitmap == null) {
+                        cachedBitmap = mPageCache.get(documentKey, position, PREVIEW_ZOOM_BUCKET);
+                        if (cachedBitmap == null) {
+                            // Shows a blank page of the expected size while the preview render job runs
+                            setBitmap(null);
+                            updateLayoutParams(position);
+                        } else {
+                            setBitmap(cachedBitmap);
+                            updateLayoutParams(position);
+                        }
+                        cachedBitmap = null;
+                    }
+                }
 
-                float scalingFactor = Math.min(
-                        mMaxPageResolution / scaledPageWidth,
-                        mMaxPageResolution / scaledPageHeight
-                );
+                if (cachedBitmap != null) {
+                    setBitmap(cachedBitmap);
+                    updateLayoutParams(position);
+                    return;
+                }
 
-                float zoomFactor = Math.min(newZoom, scalingFactor);
+                var generation = mRenderGeneration;
+                // Pages on disk are read faster than the preview is rendered
+                var onDisk = mDiskCache != null && mDiskCache.contains(getDiskCacheKey(mDiskDocumentKey, position, zoomBucket));
+                if (mBitmap == null && !onDisk) {
+                    // The full quality render is only requested once the preview is shown,
+                    // so pages that are quickly scrolled away never get to the expensive render
+                    submitRender(renderer, documentKey, position, PREVIEW_ZOOM_BUCKET, generation,
+                            () -> submitRender(renderer, documentKey, position, zoomBucket, generation, null));
+                } else {
+                    submitRender(renderer, documentKey, position, zoomBucket, generation, null);
+                }
+            }
 
-                var bitmap = Bitmap.createBitmap(
-                        Math.round(scaledPageWidth * zoomFactor),
-                        Math.round(scaledPageHeight * zoomFactor),
-                        Bitmap.Config.ARGB_8888
-                );
-                // Fill the bitmap with white color by default to prevent issues with transparent PDFs
-                bitmap.eraseColor(Color.WHITE);
-                return bitmap;
+            /**
+             * @param onComplete invoked on the main thread after the page is displayed, if this holder is still bound to it.
+             */
+            private void submitRender(DocumentRenderer renderer, String documentKey, int position, int zoomBucket, int generation, Runnable onComplete) {
+                var maxPageResolution = mMaxPageResolution;
+                var renderScale = mRenderScale;
+                var pageSizes = mPageSizes;
+                var bitmapFormat = mBitmapFormat;
+                var renderZoom = zoomBucket == PREVIEW_ZOOM_BUCKET
+                        ? PREVIEW_ZOOM
+                        : PageBitmapCache.getBucketZoom(zoomBucket);
+                // Previews are quick enough to render, only the full quality pages go to disk
+                var diskCache = zoomBucket == PREVIEW_ZOOM_BUCKET ? null : mDiskCache;
+                var diskCacheKey = diskCache != null ? getDiskCacheKey(mDiskDocumentKey, position, zoomBucket) : null;
+
+                mRenderTask = mRenderScheduler.submit(RenderScheduler.LANE_VISIBLE, () -> {
+                    if (generation != mRenderGeneration) return;
+                    var startTime = SystemClock.elapsedRealtime();
+                    try {
+                        var bitmap = renderPage(renderer, position, renderZoom, maxPageResolution, renderScale,
+                                pageSizes, bitmapFormat, diskCache, diskCacheKey);
+                        mRenderStats.recordRender(SystemClock.elapsedRealtime() - startTime);
+
+                        mMainHandler.post(() -> {
+                            scheduleRenderStats();
+                            if (renderer != mPdfRenderer) {
+                                mRenderStats.recordDropped();
+                                mPageCache.getPool().put(bitmap);
+                                return;
+                            }
+                            // Cached even if the holder moved on, the page may be displayed again soon
+                            mPageCache.put(documentKey, position, zoomBucket, bitmap);
+                            if (generation != mRenderGeneration) {
+                                mRenderStats.recordDropped();
+                                return;
+                            }
+                            mRenderTask = null;
+                            setBitmap(bitmap);
+                            if (onComplete != null) {
+                                onComplete.run();
+                            }
+                        });
+                    } catch (Exception e) {
+                        // Prevents the app from crashing if the adapter tries to render a page when the view is detached
+                        // https://github.com/douglasjunior/react-native-pdf-renderer/issues/52
+                        if (BuildConfig.DEBUG) {
+                            // noinspection CallToPrintStackTrace
+                            e.printStackTrace();
+                        }
+                    }
+                }, new RenderScheduler.StaleCheck() {
+                    @Override
+                    public boolean isStale() {
+                        return mDetached;
+                    }
+
+                    @Override
+                    public void onDropped() {
+                        onRenderDropped(generation);
+                    }
+                });
             }
 
-            public void update(int position, float newZoom) {
-                try (var page = mPdfRenderer.openPage(position)) {
-                    var pageWidth = page.getWidth();
-                    var pageHeight = page.getHeight();
-                    var bitmap = createBitmap(newZoom, pageWidth, pageHeight);
+            /**
+             * The render of a page that scrolled away before it started is dropped,
+             * it is submitted again if the page comes back without being bound again.
+             */
+            private void onRenderDropped(int generation) {
+                mRenderStats.recordCancelled();
+                mDroppedGeneration = generation;
+                // Covers the page attached again while the job was being dropped
+                mMainHandler.post(this::renderDropped);
+            }
 
-                    page.render(bitmap, null, null, PdfRenderer.Page.RENDER_MODE_FOR_DISPLAY);
+            private void renderDropped() {
+                if (mDetached || mDroppedGeneration != mRenderGeneration || mBoundPosition == NO_POSITION) return;
+                update(mBoundPosition, mZoomObserver.getZoom());
+            }
 
-                    var imageView = getImageView();
-                    imageView.setImageBitmap(bitmap);
+            private void setBitmap(Bitmap bitmap) {
+                if (bitmap == mBitmap) return;
+                var previous = mBitmap;
+                mBitmap = bitmap;
+                mPageCache.acquire(bitmap);
+                getImageView().setImageBitmap(bitmap);
+                mPageCache.release(previous);
+            }
 
-                    var lp = (LayoutParams) imageView.getLayoutParams();
-                    lp.width = LayoutParams.MATCH_PARENT;
+            private void updateLayoutParams(int position) {
+                var imageView = getImageView();
+                var lp = (LayoutParams) imageView.getLayoutParams();
+                lp.width = LayoutParams.MATCH_PARENT;
+
+                if (mSinglePage) {
+                    lp.height = LayoutParams.MATCH_PARENT;
+                    lp.setMargins(0, 0, 0, 0);
+                } else {
+                    lp.height = Math.round(mWidth * getPageAspectRatio(position));
+                    lp.setMargins(0, 0, 0, (int) mDistanceBetweenPages);
+                }
+                imageView.setLayoutParams(lp);
+            }
 
-                    if (mSinglePage) {
-                        lp.height = LayoutParams.MATCH_PARENT;
-                        lp.setMargins(0, 0, 0, 0);
-                    } else {
-                        lp.height = Math.round(((float) mWidth / (float) pageWidth) * (float) pageHeight);
-                        lp.setMargins(0, 0, 0, (int) mDistanceBetweenPages);
+            public void cancelRender() {
+                mRenderGeneration++;
+                if (mRenderTask != null) {
+                    if (mRenderTask.cancel(false)) {
+                        mRenderStats.recordCancelled();
                     }
-                    imageView.setLayoutParams(lp);
-                } catch (Exception e) {
-                    // Prevents the app from crashing if the adapter tries to render a page when the view is detached
-                    // https://github.com/douglasjunior/react-native-pdf-renderer/issues/52
-                    if (BuildConfig.DEBUG) {
-                        // noinspection CallToPrintStackTrace
-                        e.printStackTrace();
+                    mRenderTask = null;
+                }
+            }
+
+            public void recycle() {
+                cancelRender();
+                clearTiles();
+                setBitmap(null);
+                mBoundPosition = NO_POSITION;
+                mBoundRenderer = null;
+            }
+
+            /**
+             * Renders the missing tiles of the visible area of the page, keeping the previous
+             * tiles visible until the new ones are ready.
+             *
+             * @param visibleRect visible area of the page, in view coordinates.
+             */
+            public void updateTiles(RectF visibleRect, float zoom) {
+                var renderer = mPdfRenderer;
+                var position = mBoundPosition;
+                var pageView = getPageView();
+                var viewWidth = pageView.getWidth();
+                var viewHeight = pageView.getHeight();
+
+                if (renderer == null || renderer != mBoundRenderer || position == NO_POSITION
+                        || mSinglePage || zoom <= mMinZoom || visibleRect.isEmpty()
+                        || viewWidth == 0 || viewHeight == 0) {
+                    clearTiles();
+                    return;
+                }
+
+                var zoomBucket = PageBitmapCache.getZoomBucket(zoom);
+                var tileZoom = PageBitmapCache.getBucketZoom(zoomBucket);
+                var firstColumn = (int) (visibleRect.left * tileZoom / TILE_SIZE);
+                var lastColumn = (int) Math.min((visibleRect.right * tileZoom - 1) / TILE_SIZE, (viewWidth * tileZoom - 1) / TILE_SIZE);
+                var firstRow = (int) (visibleRect.top * tileZoom / TILE_SIZE);
+                var lastRow = (int) Math.min((visibleRect.bottom * tileZoom - 1) / TILE_SIZE, (viewHeight * tileZoom - 1) / TILE_SIZE);
+
+                mVisibleTiles.clear();
+                var missingTiles = new ArrayList<Long>();
+                for (int row = firstRow; row <= lastRow; row++) {
+                    for (int column = firstColumn; column <= lastColumn; column++) {
+                        var key = getTileKey(zoomBucket, row, column);
+                        mVisibleTiles.add(key);
+                        if (!pageView.hasTile(key)) {
+                            missingTiles.add(key);
+                        }
+                    }
+                }
+
+                cancelTiles();
+
+                if (missingTiles.isEmpty()) {
+                    releaseTiles(pageView.retainTiles(mVisibleTiles));
+                    return;
+                }
+
+                var generation = mTilesGeneration;
+                var renderedWidth = viewWidth * tileZoom;
+                var pageSizes = mPageSizes;
+                var bitmapFormat = mBitmapFormat;
+
+                // Dropped if the page scrolls away before the job starts, the next scroll requests the tiles again
+                mTilesTask = mRenderScheduler.submit(RenderScheduler.LANE_VISIBLE, () -> {
+                    try (var page = renderer.openPage(position)) {
+                        var scale = renderedWidth / page.getWidth();
+                        var renderedHeight = page.getHeight() * scale;
+                        var config = getBitmapConfig(pageSizes, bitmapFormat, position);
+                        var transform = new Matrix();
+
+                        for (var key : missingTiles) {
+                            if (generation != mTilesGeneration) return;
+
+                            var left = getTileColumn(key) * TILE_SIZE;
+                            var top = getTileRow(key) * TILE_SIZE;
+                            var width = Math.min(TILE_SIZE, Math.round(renderedWidth) - left);
+                            var height = Math.min(TILE_SIZE, Math.round(renderedHeight) - top);
+                            if (width <= 0 || height <= 0) continue;
+
+                            var bitmap = mPageCache.getPool().get(width, height, config);
+                            if (bitmap == null) {
+                                bitmap = Bitmap.createBitmap(width, height, config);
+                            }
+                            bitmap.eraseColor(Color.WHITE);
+
+                            transform.setScale(scale, scale);
+                            transform.postTranslate(-left, -top);
+                            renderInto(page, bitmap, transform);
+
+                            var tileBitmap = bitmap;
+                            var rect = new RectF(
+                                    left / tileZoom,
+                                    top / tileZoom,
+                                    (left + width) / tileZoom,
+                                    (top + height) / tileZoom
+                            );
+                            mMainHandler.post(() -> {
+                                if (generation != mTilesGeneration) {
+                                    mPageCache.getPool().put(tileBitmap);
+                                    return;
+                                }
+                                pageView.addTile(key, tileBitmap, rect);
+                            });
+                        }
+
+                        mMainHandler.post(() -> {
+                            if (generation != mTilesGeneration) return;
+                            mTilesTask = null;
+                            // Tiles of the previous zoom are kept until the new ones are complete
+                            releaseTiles(pageView.retainTiles(mVisibleTiles));
+                        });
+                    } catch (Exception e) {
+                        if (BuildConfig.DEBUG) {
+                            // noinspection CallToPrintStackTrace
+                            e.printStackTrace();
+                        }
                     }
+                }, () -> mDetached);
+            }
+
+            private void cancelTiles() {
+                mTilesGeneration++;
+                if (mTilesTask != null) {
+                    mTilesTask.cancel(false);
+                    mTilesTask = null;
+                }
+            }
+
+            private void clearTiles() {
+                cancelTiles();
+                mVisibleTiles.clear();
+                releaseTiles(getPageView().retainTiles(mVisibleTiles));
+            }
+
+            private void releaseTiles(Iterable<Bitmap> bitmaps) {
+                for (var bitmap : bitmaps) {
+                    mPageCache.getPool().put(bitmap);
                 }
             }
 
             public void detachFromWindow() {
+                mDetached = true;
                 if (zoomListener != null) {
                     mZoomObserver.removeListener(zoomListener);
                     zoomListener = null;
@@ -482,7 +1601,11 @@ public class PdfRendererRecyclerView extends RecyclerView {
 
             public void attachFromWindow() {
                 detachFromWindow();
+                mDetached = false;
+                renderDropped();
                 zoomListener = newZoom -> {
+                    // When scrolling, the zoom details come from the tiles and the page itself does not change
+                    if (!mSinglePage) return;
                     var position = getLayoutPosition();
                     if (position == NO_POSITION) return;
                     if (position < mLayoutManager.findFirstVisibleItemPosition()
@@ -494,11 +1617,64 @@ public class PdfRendererRecyclerView extends RecyclerView {
         }
     }
 
+    private static long getTileKey(int zoomBucket, int row, int column) {
+        return ((long) zoomBucket << 48) | ((long) row << 24) | column;
+    }
+
+    private static int getTileRow(long key) {
+        return (int) ((key >> 24) & 0xFFFFFF);
+    }
+
+    private static int getTileColumn(long key) {
+        return (int) (key & 0xFFFFFF);
+    }
+
+    @Nullable
+    private PageSizeIndex getPageSizes() {
+        if (mSinglePage) return null;
+        var adapter = (PdfRendererAdapter) getAdapter();
+        if (adapter == null) return null;
+        return adapter.getPageSizes();
+    }
+
     class LayoutManager extends LinearLayoutManager {
         public LayoutManager(Context context) {
             super(context);
         }
 
+        @Override
+        public void onLayoutCompleted(State state) {
+            super.onLayoutCompleted(state);
+            scheduleViewportChange();
+            var smoothScroll = mPendingSmoothScroll;
+            if (smoothScroll == null) return;
+            mPendingSmoothScroll = null;
+            // Scrolling is not allowed during the layout
+            post(smoothScroll);
+        }
+
+        @Override
+        public int computeVerticalScrollRange(@NonNull State state) {
+            var pageSizes = getPageSizes();
+            if (pageSizes == null) return super.computeVerticalScrollRange(state);
+            return pageSizes.getItemOffset(pageSizes.getPageCount(), mWidth, (int) mDistanceBetweenPages);
+        }
+
+        @Override
+        public int computeVerticalScrollOffset(@NonNull State state) {
+            var pageSizes = getPageSizes();
+            var firstChild = getChildCount() > 0 ? getChildAt(0) : null;
+            if (pageSizes == null || firstChild == null) return super.computeVerticalScrollOffset(state);
+            var position = getPosition(firstChild);
+            return pageSizes.getItemOffset(position, mWidth, (int) mDistanceBetweenPages) - getDecoratedTop(firstChild);
+        }
+
+        @Override
+        public int computeVerticalScrollExtent(@NonNull State state) {
+            if (getPageSizes() == null) return super.computeVerticalScrollExtent(state);
+            return getHeight();
+        }
+
         @Override
         public int scrollVerticallyBy(int dy, Recycler recycler, State state) {
             try {
@@ -507,10 +1683,7 @@ public class PdfRendererRecyclerView extends RecyclerView {
                  * https://github.com/douglasjunior/react-native-pdf-renderer/issues/3
                  */
 
-                var values = new float[9];
-                mMatrix.getValues(values);
-
-                var scaleY = values[Matrix.MSCALE_Y];
+                var scaleY = mMatrixValues[Matrix.MSCALE_Y];
                 var dyWithScale = Math.round(dy / scaleY);
 
                 return super.scrollVerticallyBy(dyWithScale, recycler, state);
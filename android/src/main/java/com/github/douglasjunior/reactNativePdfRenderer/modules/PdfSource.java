@@ -0,0 +1,259 @@
+// MIT License
+
+// Copyright (c) 2026 Douglas Nassif Roma Junior
+
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.github.douglasjunior.reactNativePdfRenderer.modules;
+
+import android.content.Context;
+import android.content.pm.PackageManager;
+import android.database.Cursor;
+import android.net.Uri;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.ParcelFileDescriptor;
+import android.provider.DocumentsContract;
+import android.provider.OpenableColumns;
+import android.system.ErrnoException;
+import android.system.Os;
+import android.system.OsConstants;
+
+import androidx.annotation.NonNull;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Location of a PDF: a file path, a {@code content://} URI or an {@code asset://} path of the app assets.
+ * <p>
+ * {@link android.graphics.pdf.PdfRenderer} needs a seekable descriptor, so the assets
+ * and the content that is only available as a stream are copied to the cache dir, once per identity.
+ */
+public class PdfSource {
+    private static final String FILE_SCHEME = "file://";
+    private static final String CONTENT_SCHEME = "content://";
+    private static final String ASSET_SCHEME = "asset://";
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_COPIES = 8;
+    /**
+     * Age after which a temporary copy is considered left behind by a crash.
+     */
+    private static final long STALE_TEMPORARY_MS = 60 * 60 * 1000;
+
+    private static final ExecutorService sResolveExecutor = Executors.newSingleThreadExecutor();
+    private static final Handler sMainHandler = new Handler(Looper.getMainLooper());
+
+    private final Context mContext;
+    private final String mSource;
+    private final String mIdentity;
+
+    private PdfSource(Context context, String source, String identity) {
+        mContext = context;
+        mSource = source;
+        mIdentity = identity;
+    }
+
+    /**
+     * Resolves the source in background, as the identity of a {@code content://} URI is queried from its provider,
+     * or hashed from its content.
+     *
+     * @param callback invoked on the main thread, in the order of the calls.
+     */
+    public static void resolve(@NonNull Context context, @NonNull String source, @NonNull Consumer<PdfSource> callback) {
+        sResolveExecutor.execute(() -> {
+            var pdfSource = from(context, source);
+            sMainHandler.post(() -> callback.accept(pdfSource));
+        });
+    }
+
+    /**
+     * Must not be called on the main thread for {@code content://} URIs, see {@link #resolve(Context, String, Consumer)}.
+     *
+     * @param source a file path, with or without {@code file://}, a {@code content://} URI or an {@code asset://} path.
+     */
+    public static PdfSource from(@NonNull Context context, @NonNull String source) {
+        var appContext = context.getApplicationContext();
+        if (source.startsWith(CONTENT_SCHEME)) {
+            return new PdfSource(appContext, source, getContentIdentity(appContext, Uri.parse(source)));
+        }
+        if (source.startsWith(ASSET_SCHEME)) {
+            return new PdfSource(appContext, source, source + ":" + getAppUpdateTime(appContext));
+        }
+        var file = new File(source.replace(FILE_SCHEME, ""));
+        return new PdfSource(appContext, file.getAbsolutePath(), getFileIdentity(file));
+    }
+
+    /**
+     * @return a key that changes when the content is replaced or modified.
+     */
+    public String getIdentity() {
+        return mIdentity;
+    }
+
+    /**
+     * Must be called on a background thread.
+     *
+     * @return a seekable descriptor of the PDF, to be closed by the caller.
+     */
+    public ParcelFileDescriptor open() throws IOException {
+        if (mSource.startsWith(ASSET_SCHEME)) {
+            var path = mSource.substring(ASSET_SCHEME.length()).replaceFirst("^/+", "");
+            // Asset descriptors point inside the APK, so the PDF must be copied to its own file
+            try (var input = mContext.getAssets().open(path)) {
+                return openCopy(input);
+            }
+        }
+        if (mSource.startsWith(CONTENT_SCHEME)) {
+            var fileDescriptor = mContext.getContentResolver().openFileDescriptor(Uri.parse(mSource), "r");
+            if (fileDescriptor == null) {
+                throw new IOException("Unable to open " + mSource);
+            }
+            if (isSeekable(fileDescriptor)) {
+                return fileDescriptor;
+            }
+            // Pipes from the content providers that stream the content
+            try (var input = new ParcelFileDescriptor.AutoCloseInputStream(fileDescriptor)) {
+                return openCopy(input);
+            }
+        }
+        return ParcelFileDescriptor.open(new File(mSource), ParcelFileDescriptor.MODE_READ_ONLY);
+    }
+
+    private static boolean isSeekable(ParcelFileDescriptor fileDescriptor) {
+        try {
+            Os.lseek(fileDescriptor.getFileDescriptor(), 0, OsConstants.SEEK_CUR);
+            return true;
+        } catch (ErrnoException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Copies the content in chunks to the cache dir, unless a copy with the same identity already exists.
+     */
+    private ParcelFileDescriptor openCopy(InputStream input) throws IOException {
+        var dir = new File(mContext.getCacheDir(), "pdf-renderer/sources");
+        var copy = new File(dir, CacheKeys.hash(mIdentity) + ".pdf");
+
+        if (!copy.exists()) {
+            if (!dir.exists() && !dir.mkdirs()) {
+                throw new IOException("Unable to create the sources directory");
+            }
+            // Written to a temporary file of its own first, so a failure never leaves a partial copy and the
+            // concurrent opens of the same identity never write to each other's copy. The last rename wins,
+            // the descriptors already open on a replaced copy stay readable.
+            var temporary = File.createTempFile(copy.getName(), ".tmp", dir);
+            try (var output = new FileOutputStream(temporary)) {
+                var buffer = new byte[COPY_BUFFER_SIZE];
+                int count;
+                while ((count = input.read(buffer)) != -1) {
+                    output.write(buffer, 0, count);
+                }
+            } catch (IOException e) {
+                temporary.delete();
+                throw e;
+            }
+            if (!temporary.renameTo(copy)) {
+                temporary.delete();
+                throw new IOException("Unable to copy " + mSource);
+            }
+            trimCopies(dir);
+        }
+        copy.setLastModified(System.currentTimeMillis());
+
+        return ParcelFileDescriptor.open(copy, ParcelFileDescriptor.MODE_READ_ONLY);
+    }
+
+    /**
+     * Keeps the {@link #MAX_COPIES} most recently used copies, the open ones stay readable until closed.
+     * The temporary copies are only deleted once stale, as other threads may still be writing them.
+     */
+    private static void trimCopies(File dir) {
+        var temporaries = dir.listFiles((file, name) -> name.endsWith(".tmp"));
+        if (temporaries != null) {
+            var staleTime = System.currentTimeMillis() - STALE_TEMPORARY_MS;
+            for (var temporary : temporaries) {
+                if (temporary.lastModified() < staleTime) {
+                    temporary.delete();
+                }
+            }
+        }
+
+        var files = dir.listFiles((file, name) -> name.endsWith(".pdf"));
+        if (files == null || files.length <= MAX_COPIES) return;
+        Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+        for (int i = 0; i < files.length - MAX_COPIES; i++) {
+            files[i].delete();
+        }
+    }
+
+    private static String getFileIdentity(File file) {
+        return file.getAbsolutePath() + ":" + file.length() + ":" + file.lastModified();
+    }
+
+    private static String getContentIdentity(Context context, Uri uri) {
+        long size = -1;
+        long lastModified = -1;
+        try (Cursor cursor = context.getContentResolver().query(uri, null, null, null, null)) {
+            if (cursor != null && cursor.moveToFirst()) {
+                var sizeIndex = cursor.getColumnIndex(OpenableColumns.SIZE);
+                if (sizeIndex >= 0 && !cursor.isNull(sizeIndex)) {
+                    size = cursor.getLong(sizeIndex);
+                }
+                var lastModifiedIndex = cursor.getColumnIndex(DocumentsContract.Document.COLUMN_LAST_MODIFIED);
+                if (lastModifiedIndex >= 0 && !cursor.isNull(lastModifiedIndex)) {
+                    lastModified = cursor.getLong(lastModifiedIndex);
+                }
+            }
+        } catch (Exception e) {
+            // Providers without metadata are identified by their content below
+        }
+        if (size >= 0 && lastModified >= 0) {
+            return uri + ":" + size + ":" + lastModified;
+        }
+
+        // The URI alone would keep showing the pages cached for a previous content
+        try (var input = context.getContentResolver().openInputStream(uri)) {
+            if (input != null) {
+                return uri + ":" + CacheKeys.hash(input);
+            }
+        } catch (Exception e) {
+            // Reported by the open, if still unreadable
+        }
+        // An identity of its own never matches the persistent caches
+        return uri + ":" + UUID.randomUUID();
+    }
+
+    private static long getAppUpdateTime(Context context) {
+        try {
+            return context.getPackageManager().getPackageInfo(context.getPackageName(), 0).lastUpdateTime;
+        } catch (PackageManager.NameNotFoundException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,204 @@
+// MIT License
+
+// Copyright (c) 2026 Douglas Nassif Roma Junior
+
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.github.douglasjunior.reactNativePdfRenderer.modules;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs the render jobs of a document on a single thread, by lane priority and then in arrival order.
+ * <p>
+ * PdfRenderer only allows one page to be opened at a time, so a higher priority job waits at most for the
+ * page being rendered. The thumbnails and the exports use their own renderers, they wait for the
+ * higher lanes of every scheduler between pages with {@link #enterLane(int)}.
+ */
+public class RenderScheduler {
+    /**
+     * Pages and tiles displayed on the screen, and the document open.
+     */
+    public static final int LANE_VISIBLE = 0;
+    public static final int LANE_PREFETCH = 1;
+    public static final int LANE_THUMBNAIL = 2;
+    public static final int LANE_EXPORT = 3;
+    private static final int LANE_COUNT = 4;
+    /*
+     * Runs after every job queued in the lanes.
+     */
+    private static final int LANE_LAST = Integer.MAX_VALUE;
+    /*
+     * Background lanes never wait longer than this per page, so a long scroll does not starve them.
+     */
+    private static final long MAX_LANE_WAIT = 1000;
+
+    /*
+     * Jobs queued or running per lane, in every scheduler.
+     */
+    private static final int[] sActiveJobs = new int[LANE_COUNT];
+
+    private final AtomicLong mSequence = new AtomicLong();
+    private final AtomicInteger mActiveJobs = new AtomicInteger();
+    private final ThreadPoolExecutor mExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new PriorityBlockingQueue<>());
+
+    /**
+     * @param lane       one of the {@code LANE_} constants.
+     * @param staleCheck checked on the render thread when the job starts, the job is cancelled instead of run if it is stale.
+     */
+    @NonNull
+    public Future<?> submit(int lane, @NonNull Runnable task, @Nullable StaleCheck staleCheck) {
+        var job = new Job(lane, mSequence.getAndIncrement(), task, staleCheck, mActiveJobs);
+        try {
+            mExecutor.execute(job);
+        } catch (RejectedExecutionException e) {
+            // Keeps the lane counts right when the scheduler is already shut down
+            job.cancel(false);
+            throw e;
+        }
+        return job;
+    }
+
+    @NonNull
+    public Future<?> submit(int lane, @NonNull Runnable task) {
+        return submit(lane, task, null);
+    }
+
+    /**
+     * @return the jobs queued or running, not counting the cancelled ones.
+     */
+    public int getActiveJobCount() {
+        return mActiveJobs.get();
+    }
+
+    /**
+     * Stops the thread after the jobs already queued and then the {@code lastTask}.
+     */
+    public void shutdown(@NonNull Runnable lastTask) {
+        mExecutor.execute(new Job(LANE_LAST, mSequence.getAndIncrement(), lastTask, null, mActiveJobs));
+        mExecutor.shutdown();
+    }
+
+    /**
+     * Blocks while the higher lanes have jobs, up to {@link #MAX_LANE_WAIT}, then counts a job of the lane
+     * until {@link #exitLane(int)}. Used by the background work that does not run on a scheduler.
+     */
+    public static void enterLane(int lane) {
+        synchronized (sActiveJobs) {
+            var deadline = System.currentTimeMillis() + MAX_LANE_WAIT;
+            try {
+                var remaining = MAX_LANE_WAIT;
+                while (hasHigherLaneJobs(lane) && remaining > 0) {
+                    sActiveJobs.wait(remaining);
+                    remaining = deadline - System.currentTimeMillis();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            sActiveJobs[lane]++;
+        }
+    }
+
+    public static void exitLane(int lane) {
+        synchronized (sActiveJobs) {
+            sActiveJobs[lane]--;
+            sActiveJobs.notifyAll();
+        }
+    }
+
+    private static boolean hasHigherLaneJobs(int lane) {
+        for (int i = 0; i < lane; i++) {
+            if (sActiveJobs[i] > 0) return true;
+        }
+        return false;
+    }
+
+    public interface StaleCheck {
+        boolean isStale();
+
+        /**
+         * Invoked on the render thread when the job is dropped as stale, never for a job cancelled before.
+         */
+        default void onDropped() {
+        }
+    }
+
+    private static class Job extends FutureTask<Void> implements Comparable<Job> {
+        private final int mLane;
+        private final long mSequence;
+        private final StaleCheck mStaleCheck;
+        private final AtomicInteger mActiveJobs;
+
+        Job(int lane, long sequence, Runnable task, @Nullable StaleCheck staleCheck, AtomicInteger activeJobs) {
+            super(task, null);
+            mLane = lane;
+            mSequence = sequence;
+            mStaleCheck = staleCheck;
+            mActiveJobs = activeJobs;
+            mActiveJobs.incrementAndGet();
+            if (mLane < LANE_COUNT) {
+                synchronized (sActiveJobs) {
+                    sActiveJobs[mLane]++;
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            // Cancelled while queued, already accounted by the caller that cancelled it
+            if (isCancelled()) return;
+            if (mStaleCheck != null && mStaleCheck.isStale()) {
+                // Loses against a concurrent cancel, so each job is dropped or cancelled only once
+                if (cancel(false)) {
+                    mStaleCheck.onDropped();
+                }
+                return;
+            }
+            super.run();
+        }
+
+        @Override
+        protected void done() {
+            // Called once, when the job completes or is cancelled
+            mActiveJobs.decrementAndGet();
+            if (mLane < LANE_COUNT) {
+                exitLane(mLane);
+            }
+        }
+
+        @Override
+        public int compareTo(Job other) {
+            if (mLane != other.mLane) {
+                return Integer.compare(mLane, other.mLane);
+            }
+            return Long.compare(mSequence, other.mSequence);
+        }
+    }
+}
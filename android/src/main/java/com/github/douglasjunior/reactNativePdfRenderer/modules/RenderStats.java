@@ -0,0 +1,149 @@
+// MIT License
+
+// Copyright (c) 2026 Douglas Nassif Roma Junior
+
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.github.douglasjunior.reactNativePdfRenderer.modules;
+
+import java.util.Arrays;
+
+/**
+ * Counters of the rendering work of a {@link PdfRendererRecyclerView}.
+ * <p>
+ * Thread-safe, renders are recorded from the render thread while cancellations are recorded from the main thread.
+ */
+public class RenderStats {
+    /**
+     * Upper bounds in milliseconds of the render latency histogram buckets,
+     * the last bucket of the histogram counts the renders slower than the last bound.
+     */
+    public static final int[] LATENCY_BUCKETS_MS = {8, 16, 33, 66, 133, 266, 533};
+
+    private final int[] mLatencyHistogram = new int[LATENCY_BUCKETS_MS.length + 1];
+    private long mLatencySum;
+    private int mCompletedCount;
+    private int mCancelledCount;
+    private int mDroppedCount;
+    private long mOpenMillis = -1;
+
+    public synchronized void recordOpen(long openMillis) {
+        mOpenMillis = openMillis;
+    }
+
+    /**
+     * Records a page render that finished, whether its result is displayed or not.
+     */
+    public synchronized void recordRender(long renderMillis) {
+        int bucket = 0;
+        while (bucket < LATENCY_BUCKETS_MS.length && renderMillis >= LATENCY_BUCKETS_MS[bucket]) {
+            bucket++;
+        }
+        mLatencyHistogram[bucket]++;
+        mLatencySum += renderMillis;
+        mCompletedCount++;
+    }
+
+    /**
+     * Records a render request cancelled before it finished.
+     */
+    public synchronized void recordCancelled() {
+        mCancelledCount++;
+    }
+
+    /**
+     * Records a finished render whose result was discarded, because its page was recycled or its document closed.
+     */
+    public synchronized void recordDropped() {
+        mDroppedCount++;
+    }
+
+    public synchronized void reset() {
+        Arrays.fill(mLatencyHistogram, 0);
+        mLatencySum = 0;
+        mCompletedCount = 0;
+        mCancelledCount = 0;
+        mDroppedCount = 0;
+        mOpenMillis = -1;
+    }
+
+    public synchronized Snapshot snapshot(long bitmapBytes, int cacheHitCount, int cacheMissCount) {
+        return new Snapshot(
+                mOpenMillis,
+                mLatencyHistogram.clone(),
+                mCompletedCount > 0 ? (double) mLatencySum / mCompletedCount : 0,
+                mCompletedCount,
+                mCancelledCount,
+                mDroppedCount,
+                bitmapBytes,
+                cacheHitCount,
+                cacheMissCount
+        );
+    }
+
+    /**
+     * Immutable copy of the counters at a given moment.
+     */
+    public static class Snapshot {
+        /**
+         * Time in milliseconds spent opening the current document, or {@code -1} if not opened yet.
+         */
+        public final long openMillis;
+        /**
+         * Number of renders per latency bucket, see {@link #LATENCY_BUCKETS_MS}.
+         */
+        public final int[] renderLatencyHistogram;
+        public final double renderLatencyAverage;
+        public final int completedRenders;
+        public final int cancelledRenders;
+        public final int droppedRenders;
+        /**
+         * Bytes of the page bitmaps currently allocated: displayed, cached or waiting to be reused.
+         */
+        public final long bitmapBytes;
+        public final int cacheHitCount;
+        public final int cacheMissCount;
+
+        Snapshot(long openMillis, int[] renderLatencyHistogram, double renderLatencyAverage,
+                 int completedRenders, int cancelledRenders, int droppedRenders,
+                 long bitmapBytes, int cacheHitCount, int cacheMissCount) {
+            this.openMillis = openMillis;
+            this.renderLatencyHistogram = renderLatencyHistogram;
+            this.renderLatencyAverage = renderLatencyAverage;
+            this.completedRenders = completedRenders;
+            this.cancelledRenders = cancelledRenders;
+            this.droppedRenders = droppedRenders;
+            this.bitmapBytes = bitmapBytes;
+            this.cacheHitCount = cacheHitCount;
+            this.cacheMissCount = cacheMissCount;
+        }
+
+        public double getCacheHitRate() {
+            var total = cacheHitCount + cacheMissCount;
+            return total > 0 ? (double) cacheHitCount / total : 0;
+        }
+    }
+
+    /**
+     * Receives the render stats of the viewers, see {@link PdfRendererRecyclerView#setGlobalRenderStatsListener(Listener)}.
+     */
+    public interface Listener {
+        void onRenderStats(PdfRendererRecyclerView view, Snapshot stats);
+    }
+}
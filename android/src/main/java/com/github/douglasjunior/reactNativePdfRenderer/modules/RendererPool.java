@@ -0,0 +1,141 @@
+// MIT License
+
+// Copyright (c) 2026 Douglas Nassif Roma Junior
+
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.github.douglasjunior.reactNativePdfRenderer.modules;
+
+import android.os.ParcelFileDescriptor;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.github.douglasjunior.reactNativePdfRenderer.BuildConfig;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.Future;
+
+/**
+ * Independent renderers of the same source, each on its own descriptor and {@link RenderScheduler},
+ * so pages are rendered in parallel. The renderers are opened on their thread by the first job.
+ */
+public class RendererPool {
+    private final PdfSource mSource;
+    private final DocumentRenderer.Factory mRendererFactory;
+    private final Slot[] mSlots;
+
+    public RendererPool(@NonNull PdfSource source, @NonNull DocumentRenderer.Factory rendererFactory, int size) {
+        mSource = source;
+        mRendererFactory = rendererFactory;
+        mSlots = new Slot[size];
+        for (int i = 0; i < size; i++) {
+            mSlots[i] = new Slot();
+        }
+    }
+
+    /**
+     * @return the number of renderers worth running in parallel: one per core, leaving one to the UI thread.
+     */
+    public static int getMaxSize() {
+        return Math.max(Runtime.getRuntime().availableProcessors() - 1, 1);
+    }
+
+    public int getSize() {
+        return mSlots.length;
+    }
+
+    /**
+     * Runs the job on the renderer with the fewest pending jobs.
+     *
+     * @param lane       one of the {@code RenderScheduler.LANE_} constants.
+     * @param staleCheck see {@link RenderScheduler#submit(int, Runnable, RenderScheduler.StaleCheck)}.
+     */
+    @NonNull
+    public Future<?> submit(int lane, @NonNull Job job, @Nullable RenderScheduler.StaleCheck staleCheck) {
+        var slot = mSlots[0];
+        for (var candidate : mSlots) {
+            if (candidate.mScheduler.getActiveJobCount() < slot.mScheduler.getActiveJobCount()) {
+                slot = candidate;
+            }
+        }
+        var selected = slot;
+        return selected.mScheduler.submit(lane, () -> {
+            try {
+                job.run(selected.getRenderer());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, staleCheck);
+    }
+
+    /**
+     * Closes the renderers after the jobs already submitted.
+     */
+    public void close() {
+        for (var slot : mSlots) {
+            slot.mScheduler.shutdown(slot::closeRenderer);
+        }
+    }
+
+    public interface Job {
+        void run(@NonNull DocumentRenderer renderer) throws IOException;
+    }
+
+    private class Slot {
+        private final RenderScheduler mScheduler = new RenderScheduler();
+        /*
+         * Only accessed on the thread of the scheduler.
+         */
+        private ParcelFileDescriptor mFileDescriptor;
+        private DocumentRenderer mRenderer;
+
+        private DocumentRenderer getRenderer() throws IOException {
+            if (mRenderer == null) {
+                mFileDescriptor = mSource.open();
+                try {
+                    mRenderer = mRendererFactory.open(mFileDescriptor);
+                } catch (IOException | RuntimeException e) {
+                    closeRenderer();
+                    throw e;
+                }
+            }
+            return mRenderer;
+        }
+
+        private void closeRenderer() {
+            if (mRenderer != null) {
+                mRenderer.close();
+                mRenderer = null;
+            }
+            if (mFileDescriptor != null) {
+                try {
+                    mFileDescriptor.close();
+                } catch (IOException e) {
+                    if (BuildConfig.DEBUG) {
+                        // noinspection CallToPrintStackTrace
+                        e.printStackTrace();
+                    }
+                }
+                mFileDescriptor = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,448 @@
+// MIT License
+
+// Copyright (c) 2026 Douglas Nassif Roma Junior
+
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.github.douglasjunior.reactNativePdfRenderer.modules;
+
+import android.graphics.RectF;
+import android.graphics.pdf.PdfRenderer;
+import android.os.Build;
+import android.os.ParcelFileDescriptor;
+
+import androidx.annotation.ChecksSdkIntAtLeast;
+import androidx.annotation.NonNull;
+import androidx.annotation.RequiresApi;
+
+import com.github.douglasjunior.reactNativePdfRenderer.BuildConfig;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Extracts the text of the documents and searches it, with the text APIs of {@link PdfRenderer} from Android 15.
+ * They are called through {@link PageText}, so the library still compiles with an SDK older than 35.
+ * <p>
+ * Each document gets an inverted index of the trigrams of its text, built in background a few pages at a time
+ * and cached on disk once complete. Searches run between those steps: the index skips the pages missing a
+ * trigram of the query, which can not contain it, and only the other pages are searched for the hit rectangles.
+ * The trigrams ignore the case and everything but letters and digits, so the queries matching inside a word or
+ * across words are never skipped. The pages not indexed yet are indexed by the search itself.
+ */
+public class TextSearch {
+    private static final int CACHE_VERSION = 1;
+    private static final int INDEX_STEP_PAGES = 16;
+    private static final int MAX_OPEN_INDEXES = 2;
+    private static final int MAX_CACHED_INDEXES = 32;
+    private static final int GRAM_LENGTH = 3;
+    /*
+     * Build.VERSION_CODES.VANILLA_ICE_CREAM, which is missing from the SDKs older than 35.
+     */
+    private static final int TEXT_API_LEVEL = 35;
+
+    private final File mCacheDir;
+    /*
+     * Every access to the indexes and their renderers happens on this single thread.
+     */
+    private final ExecutorService mExecutor = Executors.newSingleThreadExecutor();
+    private final Map<Integer, Search> mSearches = new ConcurrentHashMap<>();
+    private final LinkedHashMap<String, Index> mIndexes = new LinkedHashMap<>(MAX_OPEN_INDEXES, 0.75f, true);
+
+    public TextSearch(File cacheDir) {
+        mCacheDir = cacheDir;
+    }
+
+    @ChecksSdkIntAtLeast(api = TEXT_API_LEVEL)
+    public static boolean isSupported() {
+        return PageText.AVAILABLE && Build.VERSION.SDK_INT >= TEXT_API_LEVEL;
+    }
+
+    /**
+     * @param callback invoked on a background thread.
+     */
+    public void getPageText(PdfSource source, int page, TextCallback callback) {
+        if (!isSupported()) {
+            callback.onError(new UnsupportedOperationException("Text extraction requires Android 15"));
+            return;
+        }
+        mExecutor.execute(() -> {
+            try {
+                var index = getIndex(source);
+                if (page < 0 || page >= index.pageTexts.length) {
+                    throw new IllegalArgumentException("Invalid page: " + page);
+                }
+                callback.onSuccess(index.getPageText(page));
+            } catch (Exception e) {
+                callback.onError(e);
+            }
+        });
+    }
+
+    /**
+     * Searches the pages in order, reporting the pages with hits as soon as they are found.
+     *
+     * @param query    text to find, case-insensitive.
+     * @param callback invoked on a background thread.
+     */
+    public void search(int searchId, PdfSource source, String query, SearchCallback callback) {
+        if (!isSupported()) {
+            callback.onError(new UnsupportedOperationException("Text search requires Android 15"));
+            return;
+        }
+        var search = new Search();
+        if (mSearches.putIfAbsent(searchId, search) != null) {
+            callback.onError(new IllegalArgumentException("Duplicated search id: " + searchId));
+            return;
+        }
+        mExecutor.execute(() -> {
+            try {
+                var hitPages = 0;
+                var index = getIndex(source);
+                var grams = getGrams(fold(query));
+                for (int position = 0; position < index.pageTexts.length && !query.isEmpty(); position++) {
+                    if (search.cancelled) break;
+                    if (!index.mayContain(position, grams)) continue;
+                    var hits = index.searchPage(position, query);
+                    if (hits.isEmpty()) continue;
+                    hitPages++;
+                    callback.onPage(position, hits);
+                }
+                if (search.cancelled) {
+                    callback.onCancel();
+                } else {
+                    callback.onComplete(hitPages);
+                }
+            } catch (Exception e) {
+                callback.onError(e);
+            } finally {
+                mSearches.remove(searchId);
+            }
+        });
+    }
+
+    /**
+     * Stops the search after the page being searched.
+     */
+    public void cancel(int searchId) {
+        var search = mSearches.get(searchId);
+        if (search != null) {
+            search.cancelled = true;
+        }
+    }
+
+    public void release() {
+        for (var search : mSearches.values()) {
+            search.cancelled = true;
+        }
+        mExecutor.execute(() -> {
+            for (var index : mIndexes.values()) {
+                index.close();
+            }
+            mIndexes.clear();
+        });
+        mExecutor.shutdown();
+    }
+
+    @RequiresApi(api = TEXT_API_LEVEL)
+    private Index getIndex(PdfSource source) throws IOException {
+        var identity = source.getIdentity();
+        var index = mIndexes.get(identity);
+        if (index != null) return index;
+
+        index = new Index(source, new File(mCacheDir, CacheKeys.hash(identity) + ".idx"));
+        mIndexes.put(identity, index);
+        if (mIndexes.size() > MAX_OPEN_INDEXES) {
+            var eldest = mIndexes.entrySet().iterator().next();
+            eldest.getValue().close();
+            mIndexes.remove(eldest.getKey());
+        }
+        if (!index.isComplete()) {
+            scheduleIndexStep(index);
+        }
+        return index;
+    }
+
+    @RequiresApi(api = TEXT_API_LEVEL)
+    private void scheduleIndexStep(Index index) {
+        mExecutor.execute(() -> {
+            // Stops when the index is closed, it continues from the cached pages when opened again
+            if (index.renderer == null) return;
+            try {
+                for (int i = 0; i < INDEX_STEP_PAGES && !index.isComplete(); i++) {
+                    // Yields to the pages being displayed between pages
+                    RenderScheduler.enterLane(RenderScheduler.LANE_EXPORT);
+                    try {
+                        index.indexPage(index.nextPageToIndex());
+                    } finally {
+                        RenderScheduler.exitLane(RenderScheduler.LANE_EXPORT);
+                    }
+                }
+                if (index.isComplete()) {
+                    index.save();
+                    trimCache();
+                } else {
+                    // Queued after the searches submitted meanwhile
+                    scheduleIndexStep(index);
+                }
+            } catch (Exception e) {
+                if (BuildConfig.DEBUG) {
+                    // noinspection CallToPrintStackTrace
+                    e.printStackTrace();
+                }
+            }
+        });
+    }
+
+    /**
+     * Keeps the {@link #MAX_CACHED_INDEXES} most recently used indexes on disk.
+     */
+    private void trimCache() {
+        var files = mCacheDir.listFiles();
+        if (files == null || files.length <= MAX_CACHED_INDEXES) return;
+        Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+        for (int i = 0; i < files.length - MAX_CACHED_INDEXES; i++) {
+            files[i].delete();
+        }
+    }
+
+    /**
+     * @return the lowercase letters and digits of the text, without the spaces, punctuation and line breaks.
+     */
+    private static String fold(String text) {
+        return text.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N}]+", "");
+    }
+
+    /**
+     * @return the distinct substrings of {@link #GRAM_LENGTH} characters of the folded text.
+     */
+    private static Set<String> getGrams(String folded) {
+        var grams = new HashSet<String>();
+        for (int i = 0; i + GRAM_LENGTH <= folded.length(); i++) {
+            grams.add(folded.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    @RequiresApi(api = TEXT_API_LEVEL)
+    private class Index {
+        private final File file;
+        private final String[] pageTexts;
+        /*
+         * Pages of each trigram of the folded text.
+         */
+        private final Map<String, BitSet> postings = new HashMap<>();
+        private final ParcelFileDescriptor fileDescriptor;
+        private PdfRenderer renderer;
+        private int indexedCount;
+
+        Index(PdfSource source, File file) throws IOException {
+            this.file = file;
+            fileDescriptor = source.open();
+            try {
+                renderer = new PdfRenderer(fileDescriptor);
+            } catch (IOException | RuntimeException e) {
+                fileDescriptor.close();
+                throw e;
+            }
+            pageTexts = new String[renderer.getPageCount()];
+            load();
+        }
+
+        boolean isComplete() {
+            return indexedCount == pageTexts.length;
+        }
+
+        int nextPageToIndex() {
+            for (int position = 0; position < pageTexts.length; position++) {
+                if (pageTexts[position] == null) return position;
+            }
+            return -1;
+        }
+
+        String getPageText(int position) {
+            if (pageTexts[position] == null) {
+                indexPage(position);
+            }
+            return pageTexts[position];
+        }
+
+        void indexPage(int position) {
+            if (pageTexts[position] != null) return;
+            String text;
+            try (var page = renderer.openPage(position)) {
+                text = PageText.getText(page);
+            }
+            addPage(position, text);
+        }
+
+        private void addPage(int position, String text) {
+            pageTexts[position] = text;
+            indexedCount++;
+            for (var gram : getGrams(fold(text))) {
+                var pages = postings.get(gram);
+                if (pages == null) {
+                    pages = new BitSet(pageTexts.length);
+                    postings.put(gram, pages);
+                }
+                pages.set(position);
+            }
+        }
+
+        /**
+         * @param grams trigrams of the query, the queries too short to have any are never skipped.
+         * @return whether the page has every trigram of the query, indexing the page if needed.
+         */
+        boolean mayContain(int position, Set<String> grams) {
+            if (pageTexts[position] == null) {
+                indexPage(position);
+            }
+            for (var gram : grams) {
+                var pages = postings.get(gram);
+                if (pages == null || !pages.get(position)) return false;
+            }
+            return true;
+        }
+
+        /**
+         * @return the hit rectangles, as fractions of the page size.
+         */
+        List<RectF> searchPage(int position, String query) {
+            var rects = new ArrayList<RectF>();
+            try (var page = renderer.openPage(position)) {
+                float width = page.getWidth();
+                float height = page.getHeight();
+                for (var bounds : PageText.search(page, query)) {
+                    rects.add(new RectF(bounds.left / width, bounds.top / height,
+                            bounds.right / width, bounds.bottom / height));
+                }
+            }
+            return rects;
+        }
+
+        /**
+         * Cache format: version, page count and the UTF-8 text of each page.
+         */
+        void save() throws IOException {
+            if (!mCacheDir.exists() && !mCacheDir.mkdirs()) {
+                throw new IOException("Unable to create the text index directory");
+            }
+            // Written to a temporary file first, so a failure never leaves a partial index in the cache
+            var temporary = new File(mCacheDir, file.getName() + ".tmp");
+            try (var output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporary)))) {
+                output.writeInt(CACHE_VERSION);
+                output.writeInt(pageTexts.length);
+                for (var text : pageTexts) {
+                    var bytes = text.getBytes(StandardCharsets.UTF_8);
+                    output.writeInt(bytes.length);
+                    output.write(bytes);
+                }
+            } catch (IOException e) {
+                temporary.delete();
+                throw e;
+            }
+            if (!temporary.renameTo(file)) {
+                temporary.delete();
+                throw new IOException("Unable to write the text index");
+            }
+        }
+
+        private void load() {
+            if (!file.exists()) return;
+            try (var input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+                if (input.readInt() != CACHE_VERSION || input.readInt() != pageTexts.length) return;
+                for (int position = 0; position < pageTexts.length; position++) {
+                    var bytes = new byte[input.readInt()];
+                    input.readFully(bytes);
+                    addPage(position, new String(bytes, StandardCharsets.UTF_8));
+                }
+                // Keeps the recently used indexes when trimming the cache
+                file.setLastModified(System.currentTimeMillis());
+            } catch (IOException e) {
+                // A damaged cache is built again
+                Arrays.fill(pageTexts, null);
+                postings.clear();
+                indexedCount = 0;
+                file.delete();
+            }
+        }
+
+        void close() {
+            if (renderer != null) {
+                renderer.close();
+                renderer = null;
+            }
+            try {
+                fileDescriptor.close();
+            } catch (IOException e) {
+                if (BuildConfig.DEBUG) {
+                    // noinspection CallToPrintStackTrace
+                    e.printStackTrace();
+                }
+            }
+        }
+    }
+
+    public interface TextCallback {
+        void onSuccess(@NonNull String text);
+
+        void onError(@NonNull Exception e);
+    }
+
+    public interface SearchCallback {
+        /**
+         * @param rects hit rectangles, as fractions of the page size.
+         */
+        void onPage(int page, @NonNull List<RectF> rects);
+
+        /**
+         * @param hitPages number of pages with hits.
+         */
+        void onComplete(int hitPages);
+
+        void onCancel();
+
+        void onError(@NonNull Exception e);
+    }
+
+    private static class Search {
+        private volatile boolean cancelled;
+    }
+}
@@ -0,0 +1,250 @@
+// MIT License
+
+// Copyright (c) 2026 Douglas Nassif Roma Junior
+
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.github.douglasjunior.reactNativePdfRenderer.modules;
+
+import android.graphics.Bitmap;
+import android.graphics.Color;
+import android.graphics.pdf.PdfRenderer;
+
+import androidx.annotation.NonNull;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Renders page thumbnails to image files, without a viewer.
+ * <p>
+ * The thumbnails are cached on disk, keyed by source identity, page and width. The requests are
+ * rendered one at a time, the requests for the same thumbnail share one render, and when the
+ * queue is full the oldest requests are dropped, as they are the least likely to be still on screen.
+ */
+public class ThumbnailGenerator {
+    private static final int MAX_PENDING_REQUESTS = 64;
+    private static final long MAX_CACHE_SIZE = 50 * 1024 * 1024;
+    private static final int JPEG_QUALITY = 90;
+
+    private final File mCacheDir;
+    private final ExecutorService mExecutor = Executors.newSingleThreadExecutor();
+    /*
+     * Pending requests by cache key, in arrival order.
+     */
+    private final LinkedHashMap<String, Request> mPending = new LinkedHashMap<>();
+    /*
+     * Request being rendered, guarded by mPending.
+     */
+    private Request mActive;
+
+    public ThumbnailGenerator(File cacheDir) {
+        mCacheDir = cacheDir;
+    }
+
+    /**
+     * @param callback invoked on a background thread.
+     */
+    public void generate(PdfSource source, int page, int width, Callback callback) {
+        if (width <= 0) {
+            callback.onError(new IllegalArgumentException("Invalid thumbnail width: " + width));
+            return;
+        }
+
+        var key = getCacheKey(source.getIdentity(), page, width);
+        var thumbnail = new File(mCacheDir, key + ".jpg");
+        if (thumbnail.exists()) {
+            // Keeps the recently used thumbnails when trimming the cache
+            thumbnail.setLastModified(System.currentTimeMillis());
+            callback.onSuccess(thumbnail);
+            return;
+        }
+
+        Request dropped = null;
+        synchronized (mPending) {
+            var request = mActive != null && mActive.key.equals(key) ? mActive : mPending.get(key);
+            if (request != null) {
+                request.callbacks.add(callback);
+                return;
+            }
+            if (mPending.size() >= MAX_PENDING_REQUESTS) {
+                var oldestKey = mPending.keySet().iterator().next();
+                dropped = mPending.remove(oldestKey);
+            }
+            mPending.put(key, new Request(key, source, page, width, thumbnail, callback));
+        }
+
+        if (dropped != null) {
+            dropped.notifyError(new IOException("Thumbnail request dropped, too many pending requests"));
+        }
+        mExecutor.execute(this::processNext);
+    }
+
+    public void release() {
+        mExecutor.shutdownNow();
+        List<Request> requests;
+        synchronized (mPending) {
+            requests = new ArrayList<>(mPending.values());
+            mPending.clear();
+        }
+        for (var request : requests) {
+            request.notifyError(new IOException("Thumbnail generator released"));
+        }
+    }
+
+    private void processNext() {
+        Request request;
+        synchronized (mPending) {
+            if (mPending.isEmpty()) return;
+            var key = mPending.keySet().iterator().next();
+            request = mPending.remove(key);
+            mActive = request;
+        }
+
+        try {
+            if (!request.thumbnail.exists()) {
+                // Yields to the pages being displayed or prefetched by the viewers
+                RenderScheduler.enterLane(RenderScheduler.LANE_THUMBNAIL);
+                try {
+                    render(request);
+                } finally {
+                    RenderScheduler.exitLane(RenderScheduler.LANE_THUMBNAIL);
+                }
+                trimCache();
+            }
+            finish().notifySuccess(request.thumbnail);
+        } catch (Exception e) {
+            finish().notifyError(e);
+        }
+    }
+
+    /**
+     * @return the active request, after which no more callbacks are added to it.
+     */
+    private Request finish() {
+        synchronized (mPending) {
+            var request = mActive;
+            mActive = null;
+            return request;
+        }
+    }
+
+    private void render(Request request) throws IOException {
+        try (var fileDescriptor = request.source.open();
+             var renderer = new PdfRenderer(fileDescriptor);
+             var page = renderer.openPage(request.page)) {
+            var height = Math.max(Math.round((float) request.width * page.getHeight() / page.getWidth()), 1);
+            var bitmap = Bitmap.createBitmap(request.width, height, Bitmap.Config.ARGB_8888);
+            try {
+                // Fill the bitmap with white color by default to prevent issues with transparent PDFs
+                bitmap.eraseColor(Color.WHITE);
+                page.render(bitmap, null, null, PdfRenderer.Page.RENDER_MODE_FOR_DISPLAY);
+                write(bitmap, request.thumbnail);
+            } finally {
+                bitmap.recycle();
+            }
+        }
+    }
+
+    private void write(Bitmap bitmap, File thumbnail) throws IOException {
+        if (!mCacheDir.exists() && !mCacheDir.mkdirs()) {
+            throw new IOException("Unable to create the thumbnails directory");
+        }
+        // Written to a temporary file first, so a failure never leaves a partial thumbnail in the cache
+        var temporary = new File(mCacheDir, thumbnail.getName() + ".tmp");
+        try (var output = new FileOutputStream(temporary)) {
+            bitmap.compress(Bitmap.CompressFormat.JPEG, JPEG_QUALITY, output);
+        }
+        if (!temporary.renameTo(thumbnail)) {
+            temporary.delete();
+            throw new IOException("Unable to write the thumbnail");
+        }
+    }
+
+    /**
+     * Deletes the least recently used thumbnails above {@link #MAX_CACHE_SIZE}.
+     */
+    private void trimCache() {
+        var files = mCacheDir.listFiles();
+        if (files == null) return;
+
+        long size = 0;
+        for (var file : files) {
+            size += file.length();
+        }
+        if (size <= MAX_CACHE_SIZE) return;
+
+        Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+        for (var file : files) {
+            if (size <= MAX_CACHE_SIZE) break;
+            var length = file.length();
+            if (file.delete()) {
+                size -= length;
+            }
+        }
+    }
+
+    private static String getCacheKey(String identity, int page, int width) {
+        return CacheKeys.hash(identity + ":" + page + ":" + width);
+    }
+
+    public interface Callback {
+        void onSuccess(@NonNull File thumbnail);
+
+        void onError(@NonNull Exception e);
+    }
+
+    private static class Request {
+        private final String key;
+        private final PdfSource source;
+        private final int page;
+        private final int width;
+        private final File thumbnail;
+        private final List<Callback> callbacks = new ArrayList<>();
+
+        Request(String key, PdfSource source, int page, int width, File thumbnail, Callback callback) {
+            this.key = key;
+            this.source = source;
+            this.page = page;
+            this.width = width;
+            this.thumbnail = thumbnail;
+            this.callbacks.add(callback);
+        }
+
+        void notifySuccess(File thumbnail) {
+            for (var callback : callbacks) {
+                callback.onSuccess(thumbnail);
+            }
+        }
+
+        void notifyError(Exception e) {
+            for (var callback : callbacks) {
+                callback.onError(e);
+            }
+        }
+    }
+}
@@ -28,6 +28,7 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
 import com.facebook.react.bridge.ReactApplicationContext;
+import com.facebook.react.bridge.ReadableArray;
 import com.facebook.react.bridge.ReadableMap;
 import com.facebook.react.module.annotations.ReactModule;
 import com.facebook.react.uimanager.SimpleViewManager;
@@ -37,6 +38,7 @@ import com.facebook.react.uimanager.annotations.ReactProp;
 import com.facebook.react.uimanager.events.Event;
 import com.facebook.react.uimanager.events.EventDispatcher;
 import com.facebook.react.viewmanagers.RNPdfRendererViewManagerInterface;
+import com.github.douglasjunior.reactNativePdfRenderer.PdfRendererPackage;
 import com.github.douglasjunior.reactNativePdfRenderer.PdfRendererViewManagerImpl;
 
 import java.util.Map;
@@ -59,7 +61,18 @@ public class PdfRendererViewManager extends SimpleViewManager<PdfRendererRecycle
     @NonNull
     @Override
     protected PdfRendererRecyclerView createViewInstance(@NonNull ThemedReactContext themedReactContext) {
-        return new PdfRendererRecyclerView(mReactApplicationContext, this);
+        return new PdfRendererRecyclerView(mReactApplicationContext, this, PdfRendererPackage.getDocumentRegistry());
+    }
+
+    @Override
+    public void onDropViewInstance(@NonNull PdfRendererRecyclerView view) {
+        super.onDropViewInstance(view);
+        view.release();
+    }
+
+    @Override
+    public void receiveCommand(@NonNull PdfRendererRecyclerView view, String commandId, @Nullable ReadableArray args) {
+        PdfRendererViewManagerImpl.receiveCommand(view, commandId, args);
     }
 
     @Nullable
@@ -90,6 +103,53 @@ public class PdfRendererViewManager extends SimpleViewManager<PdfRendererRecycle
         );
     }
 
+    @Override
+    public void onLoadStart(PdfRendererRecyclerView target) {
+        int surfaceId = UIManagerHelper.getSurfaceId(mReactApplicationContext);
+        sendEvent(
+                target,
+                PdfRendererViewManagerImpl.createOnLoadStartEvent(surfaceId, target.getId())
+        );
+    }
+
+    @Override
+    public void onLoadComplete(PdfRendererRecyclerView target, int totalPages, long openMillis) {
+        int surfaceId = UIManagerHelper.getSurfaceId(mReactApplicationContext);
+        sendEvent(
+                target,
+                PdfRendererViewManagerImpl.createOnLoadCompleteEvent(surfaceId, target.getId(), totalPages, openMillis)
+        );
+    }
+
+    @Override
+    public void onRenderStats(PdfRendererRecyclerView target, RenderStats.Snapshot stats) {
+        int surfaceId = UIManagerHelper.getSurfaceId(mReactApplicationContext);
+        sendEvent(
+                target,
+                PdfRendererViewManagerImpl.createOnRenderStatsEvent(surfaceId, target.getId(), stats)
+        );
+    }
+
+    @Override
+    public void onMemoryBudgetChange(PdfRendererRecyclerView target, long budget, long pageCacheSize, float renderScale) {
+        int surfaceId = UIManagerHelper.getSurfaceId(mReactApplicationContext);
+        sendEvent(
+                target,
+                PdfRendererViewManagerImpl.createOnMemoryBudgetChangeEvent(surfaceId, target.getId(), budget, pageCacheSize, renderScale)
+        );
+    }
+
+    @Override
+    public void onViewportChange(PdfRendererRecyclerView target, int firstPage, int lastPage, float[] visibleFractions,
+                                 float zoom, float scrollOffset) {
+        int surfaceId = UIManagerHelper.getSurfaceId(mReactApplicationContext);
+        sendEvent(
+                target,
+                PdfRendererViewManagerImpl.createOnViewportChangeEvent(surfaceId, target.getId(), firstPage, lastPage,
+                        visibleFractions, zoom, scrollOffset)
+        );
+    }
+
     private void onError(PdfRendererRecyclerView target) {
         int surfaceId = UIManagerHelper.getSurfaceId(mReactApplicationContext);
         sendEvent(
@@ -104,6 +164,59 @@ public class PdfRendererViewManager extends SimpleViewManager<PdfRendererRecycle
         view.setMaxPageResolution(value);
     }
 
+    @ReactProp(name = "maxPageCacheSize")
+    @Override
+    public void setMaxPageCacheSize(PdfRendererRecyclerView view, float value) {
+        view.setMaxPageCacheSize(value);
+    }
+
+    @ReactProp(name = "prefetchPages")
+    @Override
+    public void setPrefetchPages(PdfRendererRecyclerView view, int value) {
+        view.setPrefetchPages(value);
+    }
+
+    @ReactProp(name = "renderThreads")
+    @Override
+    public void setRenderThreads(PdfRendererRecyclerView view, int value) {
+        view.setRenderThreads(value);
+    }
+
+    @ReactProp(name = "viewportChangeEnabled")
+    @Override
+    public void setViewportChangeEnabled(PdfRendererRecyclerView view, boolean value) {
+        view.setViewportChangeEnabled(value);
+    }
+
+    @ReactProp(name = "viewportChangeThrottle")
+    @Override
+    public void setViewportChangeThrottle(PdfRendererRecyclerView view, float value) {
+        view.setViewportChangeThrottle(value);
+    }
+
+    @Override
+    public void scrollToPage(PdfRendererRecyclerView view, int index, boolean animated) {
+        view.scrollToPage(index, animated);
+    }
+
+    @ReactProp(name = "diskCacheEnabled")
+    @Override
+    public void setDiskCacheEnabled(PdfRendererRecyclerView view, boolean value) {
+        view.setDiskCacheEnabled(value);
+    }
+
+    @ReactProp(name = "renderStatsEnabled")
+    @Override
+    public void setRenderStatsEnabled(PdfRendererRecyclerView view, boolean value) {
+        view.setRenderStatsEnabled(value);
+    }
+
+    @ReactProp(name = "bitmapFormat")
+    @Override
+    public void setBitmapFormat(PdfRendererRecyclerView view, @Nullable String value) {
+        view.setBitmapFormat(BitmapFormat.fromString(value));
+    }
+
     @ReactProp(name = "distanceBetweenPages")
     @Override
     public void setDistanceBetweenPages(PdfRendererRecyclerView view, float value) {
@@ -0,0 +1,47 @@
+// MIT License
+
+// Copyright (c) 2026 Douglas Nassif Roma Junior
+
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.github.douglasjunior.reactNativePdfRenderer.modules;
+
+import android.graphics.RectF;
+import android.graphics.pdf.PdfRenderer;
+
+import java.util.List;
+
+/**
+ * Stands in for the text APIs of {@link PdfRenderer.Page} when compiled with an SDK older than 35,
+ * so the library still builds and the text search reports that it is not supported.
+ */
+class PageText {
+    static final boolean AVAILABLE = false;
+
+    private PageText() {
+    }
+
+    static String getText(PdfRenderer.Page page) {
+        throw new UnsupportedOperationException("Text extraction requires compileSdk 35");
+    }
+
+    static List<RectF> search(PdfRenderer.Page page, String query) {
+        throw new UnsupportedOperationException("Text search requires compileSdk 35");
+    }
+}
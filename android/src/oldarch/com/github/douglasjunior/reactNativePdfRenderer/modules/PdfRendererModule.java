@@ -0,0 +1,94 @@
+// MIT License
+
+// Copyright (c) 2026 Douglas Nassif Roma Junior
+
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.github.douglasjunior.reactNativePdfRenderer.modules;
+
+import static com.github.douglasjunior.reactNativePdfRenderer.PdfRendererModuleImpl.REACT_MODULE_NAME;
+
+import androidx.annotation.NonNull;
+
+import com.facebook.react.bridge.Promise;
+import com.facebook.react.bridge.ReactApplicationContext;
+import com.facebook.react.bridge.ReactContextBaseJavaModule;
+import com.facebook.react.bridge.ReactMethod;
+import com.github.douglasjunior.reactNativePdfRenderer.PdfRendererModuleImpl;
+
+public class PdfRendererModule extends ReactContextBaseJavaModule {
+    private final PdfRendererModuleImpl mImpl;
+
+    public PdfRendererModule(ReactApplicationContext reactApplicationContext) {
+        super(reactApplicationContext);
+        mImpl = new PdfRendererModuleImpl(reactApplicationContext);
+    }
+
+    @NonNull
+    @Override
+    public String getName() {
+        return REACT_MODULE_NAME;
+    }
+
+    @ReactMethod
+    public void generateThumbnail(String source, double page, double width, Promise promise) {
+        mImpl.generateThumbnail(source, page, width, promise);
+    }
+
+    @ReactMethod
+    public void renderPages(double jobId, String source, double firstPage, double lastPage, double dpi, String format, double renderThreads, Promise promise) {
+        mImpl.renderPages(jobId, source, firstPage, lastPage, dpi, format, renderThreads, promise);
+    }
+
+    @ReactMethod
+    public void cancelRenderPages(double jobId) {
+        mImpl.cancelRenderPages(jobId);
+    }
+
+    @ReactMethod
+    public void getPageText(String source, double page, Promise promise) {
+        mImpl.getPageText(source, page, promise);
+    }
+
+    @ReactMethod
+    public void search(double searchId, String source, String query, Promise promise) {
+        mImpl.search(searchId, source, query, promise);
+    }
+
+    @ReactMethod
+    public void cancelSearch(double searchId) {
+        mImpl.cancelSearch(searchId);
+    }
+
+    @ReactMethod
+    public void addListener(String eventName) {
+        // Required by NativeEventEmitter, the events are sent through RCTDeviceEventEmitter
+    }
+
+    @ReactMethod
+    public void removeListeners(double count) {
+        // Required by NativeEventEmitter, the events are sent through RCTDeviceEventEmitter
+    }
+
+    @Override
+    public void invalidate() {
+        super.invalidate();
+        mImpl.invalidate();
+    }
+}
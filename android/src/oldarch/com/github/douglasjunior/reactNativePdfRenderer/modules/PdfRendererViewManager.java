@@ -28,6 +28,7 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
 import com.facebook.react.bridge.ReactApplicationContext;
+import com.facebook.react.bridge.ReadableArray;
 import com.facebook.react.bridge.ReadableMap;
 import com.facebook.react.uimanager.SimpleViewManager;
 import com.facebook.react.uimanager.ThemedReactContext;
@@ -35,9 +36,9 @@ import com.facebook.react.uimanager.UIManagerHelper;
 import com.facebook.react.uimanager.UIManagerModule;
 import com.facebook.react.uimanager.annotations.ReactProp;
 import com.facebook.react.uimanager.events.Event;
+import com.github.douglasjunior.reactNativePdfRenderer.PdfRendererPackage;
 import com.github.douglasjunior.reactNativePdfRenderer.PdfRendererViewManagerImpl;
 
-import java.io.IOException;
 import java.util.Map;
 
 public class PdfRendererViewManager extends SimpleViewManager<PdfRendererRecyclerView> implements PdfRendererRecyclerView.PdfRendererRecyclerViewListener {
@@ -56,7 +57,18 @@ public class PdfRendererViewManager extends SimpleViewManager<PdfRendererRecycle
     @NonNull
     @Override
     protected PdfRendererRecyclerView createViewInstance(@NonNull ThemedReactContext themedReactContext) {
-        return new PdfRendererRecyclerView(mReactApplicationContext, this);
+        return new PdfRendererRecyclerView(mReactApplicationContext, this, PdfRendererPackage.getDocumentRegistry());
+    }
+
+    @Override
+    public void onDropViewInstance(@NonNull PdfRendererRecyclerView view) {
+        super.onDropViewInstance(view);
+        view.release();
+    }
+
+    @Override
+    public void receiveCommand(@NonNull PdfRendererRecyclerView view, String commandId, @Nullable ReadableArray args) {
+        PdfRendererViewManagerImpl.receiveCommand(view, commandId, args);
     }
 
     @Nullable
@@ -66,7 +78,7 @@ public class PdfRendererViewManager extends SimpleViewManager<PdfRendererRecycle
     }
 
     @ReactProp(name = "params")
-    public void setParams(PdfRendererRecyclerView view, @Nullable ReadableMap params) throws IOException {
+    public void setParams(PdfRendererRecyclerView view, @Nullable ReadableMap params) {
         PdfRendererViewManagerImpl.setParams(view, params, () -> onError(view));
     }
 
@@ -80,6 +92,46 @@ public class PdfRendererViewManager extends SimpleViewManager<PdfRendererRecycle
         view.setMaxPageResolution(maxPageResolution);
     }
 
+    @ReactProp(name = "maxPageCacheSize")
+    public void setMaxPageCacheSize(PdfRendererRecyclerView view, float maxPageCacheSize) {
+        view.setMaxPageCacheSize(maxPageCacheSize);
+    }
+
+    @ReactProp(name = "renderStatsEnabled")
+    public void setRenderStatsEnabled(PdfRendererRecyclerView view, boolean renderStatsEnabled) {
+        view.setRenderStatsEnabled(renderStatsEnabled);
+    }
+
+    @ReactProp(name = "bitmapFormat")
+    public void setBitmapFormat(PdfRendererRecyclerView view, @Nullable String bitmapFormat) {
+        view.setBitmapFormat(BitmapFormat.fromString(bitmapFormat));
+    }
+
+    @ReactProp(name = "prefetchPages", defaultInt = 2)
+    public void setPrefetchPages(PdfRendererRecyclerView view, int prefetchPages) {
+        view.setPrefetchPages(prefetchPages);
+    }
+
+    @ReactProp(name = "renderThreads", defaultInt = 1)
+    public void setRenderThreads(PdfRendererRecyclerView view, int renderThreads) {
+        view.setRenderThreads(renderThreads);
+    }
+
+    @ReactProp(name = "viewportChangeEnabled")
+    public void setViewportChangeEnabled(PdfRendererRecyclerView view, boolean viewportChangeEnabled) {
+        view.setViewportChangeEnabled(viewportChangeEnabled);
+    }
+
+    @ReactProp(name = "viewportChangeThrottle")
+    public void setViewportChangeThrottle(PdfRendererRecyclerView view, float viewportChangeThrottle) {
+        view.setViewportChangeThrottle(viewportChangeThrottle);
+    }
+
+    @ReactProp(name = "diskCacheEnabled")
+    public void setDiskCacheEnabled(PdfRendererRecyclerView view, boolean diskCacheEnabled) {
+        view.setDiskCacheEnabled(diskCacheEnabled);
+    }
+
     private void sendEvent(Event<?> event) {
         UIManagerModule uiManager = mReactApplicationContext.getNativeModule(UIManagerModule.class);
         if (uiManager != null) {
@@ -103,4 +155,46 @@ public class PdfRendererViewManager extends SimpleViewManager<PdfRendererRecycle
                 PdfRendererViewManagerImpl.createOnPageChangeEvent(surfaceId, target.getId(), position, total)
         );
     }
+
+    @Override
+    public void onRenderStats(PdfRendererRecyclerView target, RenderStats.Snapshot stats) {
+        int surfaceId = UIManagerHelper.getSurfaceId(target);
+        sendEvent(
+                PdfRendererViewManagerImpl.createOnRenderStatsEvent(surfaceId, target.getId(), stats)
+        );
+    }
+
+    @Override
+    public void onMemoryBudgetChange(PdfRendererRecyclerView target, long budget, long pageCacheSize, float renderScale) {
+        int surfaceId = UIManagerHelper.getSurfaceId(target);
+        sendEvent(
+                PdfRendererViewManagerImpl.createOnMemoryBudgetChangeEvent(surfaceId, target.getId(), budget, pageCacheSize, renderScale)
+        );
+    }
+
+    @Override
+    public void onViewportChange(PdfRendererRecyclerView target, int firstPage, int lastPage, float[] visibleFractions,
+                                 float zoom, float scrollOffset) {
+        int surfaceId = UIManagerHelper.getSurfaceId(target);
+        sendEvent(
+                PdfRendererViewManagerImpl.createOnViewportChangeEvent(surfaceId, target.getId(), firstPage, lastPage,
+                        visibleFractions, zoom, scrollOffset)
+        );
+    }
+
+    @Override
+    public void onLoadStart(PdfRendererRecyclerView target) {
+        int surfaceId = UIManagerHelper.getSurfaceId(target);
+        sendEvent(
+                PdfRendererViewManagerImpl.createOnLoadStartEvent(surfaceId, target.getId())
+        );
+    }
+
+    @Override
+    public void onLoadComplete(PdfRendererRecyclerView target, int totalPages, long openMillis) {
+        int surfaceId = UIManagerHelper.getSurfaceId(target);
+        sendEvent(
+                PdfRendererViewManagerImpl.createOnLoadCompleteEvent(surfaceId, target.getId(), totalPages, openMillis)
+        );
+    }
 }
@@ -0,0 +1,66 @@
+// MIT License
+
+// Copyright (c) 2026 Douglas Nassif Roma Junior
+
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.github.douglasjunior.reactNativePdfRenderer.modules;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Bytes allocated on the Java heap by the current thread, through the HotSpot extension of the thread MX bean.
+ */
+class AllocationCounter {
+    private static final int OVERHEAD_SAMPLES = 5;
+
+    private final com.sun.management.ThreadMXBean mThreads;
+    private final long mThreadId = Thread.currentThread().getId();
+    private final long mOverhead;
+
+    AllocationCounter() {
+        mThreads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        // Reading the counter may allocate its own arguments, that part is left out of the measures
+        var overhead = Long.MAX_VALUE;
+        for (int i = 0; i < OVERHEAD_SAMPLES; i++) {
+            var before = read();
+            overhead = Math.min(overhead, read() - before);
+        }
+        mOverhead = overhead;
+    }
+
+    static boolean isSupported() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)) return false;
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled();
+    }
+
+    private long read() {
+        return mThreads.getThreadAllocatedBytes(mThreadId);
+    }
+
+    /**
+     * @return bytes allocated by the task, on the current thread.
+     */
+    long measure(Runnable task) {
+        var before = read();
+        task.run();
+        return read() - before - mOverhead;
+    }
+}
@@ -0,0 +1,111 @@
+// MIT License
+
+// Copyright (c) 2026 Douglas Nassif Roma Junior
+
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.github.douglasjunior.reactNativePdfRenderer.modules;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.os.Looper;
+
+import androidx.annotation.NonNull;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BooleanSupplier;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+public class DocumentRegistryTest {
+    private static final int PAGE_COUNT = 5000;
+    private static final long TIMEOUT_MS = 10_000;
+
+    @Test
+    public void releasedWhileOpeningStopsBeforeReadingThePages() throws Exception {
+        var rendererFactory = FakeDocumentRenderer.Factory.manual(PAGE_COUNT);
+        var openGate = new CountDownLatch(1);
+        rendererFactory.setOpenGate(openGate);
+        var registry = new DocumentRegistry(rendererFactory);
+        var callback = new RecordingCallback();
+
+        var document = registry.open(ViewerFixture.createSource(RuntimeEnvironment.getApplication()), callback);
+        waitUntil(() -> rendererFactory.getOpenedDocuments() == 1);
+        // Like a source change while the document is still opening
+        registry.release(document);
+        openGate.countDown();
+
+        waitUntil(() -> rendererFactory.getClosedDocuments() == 1);
+        shadowOf(Looper.getMainLooper()).idle();
+        assertEquals(0, rendererFactory.getOpenedPages());
+        assertFalse(callback.mCalled);
+    }
+
+    @Test
+    public void openReadsThePageSizes() throws Exception {
+        var rendererFactory = FakeDocumentRenderer.Factory.manual(PAGE_COUNT);
+        var registry = new DocumentRegistry(rendererFactory);
+        var callback = new RecordingCallback();
+
+        var document = registry.open(ViewerFixture.createSource(RuntimeEnvironment.getApplication()), callback);
+        waitUntil(() -> {
+            shadowOf(Looper.getMainLooper()).idle();
+            return callback.mCalled;
+        });
+
+        assertTrue(callback.mOpened);
+        assertEquals(PAGE_COUNT, document.getPageSizes().getPageCount());
+        registry.release(document);
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        var deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("Timed out waiting for the render thread");
+            }
+            Thread.sleep(1);
+        }
+    }
+
+    private static class RecordingCallback implements DocumentRegistry.OpenCallback {
+        private volatile boolean mCalled;
+        private volatile boolean mOpened;
+
+        @Override
+        public void onOpen(@NonNull DocumentRegistry.Document document) {
+            mCalled = true;
+            mOpened = true;
+        }
+
+        @Override
+        public void onError() {
+            mCalled = true;
+        }
+    }
+}
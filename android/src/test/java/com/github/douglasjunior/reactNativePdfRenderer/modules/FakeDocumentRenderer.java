@@ -0,0 +1,186 @@
+// MIT License
+
+// Copyright (c) 2026 Douglas Nassif Roma Junior
+
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.github.douglasjunior.reactNativePdfRenderer.modules;
+
+import android.graphics.Bitmap;
+import android.graphics.Color;
+import android.graphics.Matrix;
+import android.os.ParcelFileDescriptor;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link DocumentRenderer} of a synthetic document, filling the pages with a flat color,
+ * so the render path runs on the JVM without the native {@link android.graphics.pdf.PdfRenderer}.
+ */
+class FakeDocumentRenderer implements DocumentRenderer {
+    private final Factory mFactory;
+    private boolean mPageOpen;
+
+    private FakeDocumentRenderer(Factory factory) {
+        mFactory = factory;
+    }
+
+    @Override
+    public int getPageCount() {
+        return mFactory.mWidths.length;
+    }
+
+    @NonNull
+    @Override
+    public Page openPage(int index) {
+        if (mPageOpen) {
+            throw new IllegalStateException("Current page not closed");
+        }
+        mPageOpen = true;
+        mFactory.mOpenedPages.incrementAndGet();
+        var width = mFactory.mWidths[index];
+        var height = mFactory.mHeights[index];
+        return new Page() {
+            @Override
+            public int getWidth() {
+                return width;
+            }
+
+            @Override
+            public int getHeight() {
+                return height;
+            }
+
+            @Override
+            public void render(@NonNull Bitmap destination, @Nullable Matrix transform) {
+                if (destination.getConfig() != Bitmap.Config.ARGB_8888) {
+                    throw new IllegalArgumentException("Unsupported pixel format");
+                }
+                destination.eraseColor(Color.LTGRAY);
+                mFactory.mRenderedPages.incrementAndGet();
+                mFactory.mLastRenderNanos = System.nanoTime();
+            }
+
+            @Override
+            public void close() {
+                mPageOpen = false;
+            }
+        };
+    }
+
+    @Override
+    public void close() {
+        mFactory.mClosedDocuments.incrementAndGet();
+    }
+
+    static class Factory implements DocumentRenderer.Factory {
+        private final int[] mWidths;
+        private final int[] mHeights;
+        private final AtomicInteger mOpenedDocuments = new AtomicInteger();
+        private final AtomicInteger mClosedDocuments = new AtomicInteger();
+        private final AtomicInteger mOpenedPages = new AtomicInteger();
+        private final AtomicInteger mRenderedPages = new AtomicInteger();
+        private volatile long mLastRenderNanos;
+        private volatile CountDownLatch mOpenGate;
+
+        Factory(int[] widths, int[] heights) {
+            mWidths = widths;
+            mHeights = heights;
+        }
+
+        /**
+         * Mostly letter pages, with some landscape pages and some larger pages, like a manual with foldouts.
+         */
+        static Factory manual(int pageCount) {
+            var widths = new int[pageCount];
+            var heights = new int[pageCount];
+            for (int i = 0; i < pageCount; i++) {
+                if (i % 13 == 0) {
+                    widths[i] = 1224;
+                    heights[i] = 1584;
+                } else if (i % 7 == 0) {
+                    widths[i] = 792;
+                    heights[i] = 612;
+                } else {
+                    widths[i] = 612;
+                    heights[i] = 792;
+                }
+            }
+            return new Factory(widths, heights);
+        }
+
+        PageSizeIndex createPageSizes() {
+            return new PageSizeIndex(mWidths.clone(), mHeights.clone());
+        }
+
+        /**
+         * @param openGate blocks the next opens until counted down, or {@code null} to open right away.
+         */
+        void setOpenGate(@Nullable CountDownLatch openGate) {
+            mOpenGate = openGate;
+        }
+
+        int getOpenedDocuments() {
+            return mOpenedDocuments.get();
+        }
+
+        int getClosedDocuments() {
+            return mClosedDocuments.get();
+        }
+
+        /**
+         * @return pages opened by all the renderers, to read their size or to render them.
+         */
+        int getOpenedPages() {
+            return mOpenedPages.get();
+        }
+
+        int getRenderedPages() {
+            return mRenderedPages.get();
+        }
+
+        /**
+         * @return {@link System#nanoTime()} at the end of the last render.
+         */
+        long getLastRenderNanos() {
+            return mLastRenderNanos;
+        }
+
+        @NonNull
+        @Override
+        public DocumentRenderer open(@NonNull ParcelFileDescriptor fileDescriptor) throws IOException {
+            mOpenedDocuments.incrementAndGet();
+            var openGate = mOpenGate;
+            if (openGate != null) {
+                try {
+                    openGate.await();
+                } catch (InterruptedException e) {
+                    throw new InterruptedIOException();
+                }
+            }
+            return new FakeDocumentRenderer(this);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+// MIT License
+
+// Copyright (c) 2026 Douglas Nassif Roma Junior
+
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.github.douglasjunior.reactNativePdfRenderer.modules;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+import android.content.Context;
+import android.view.MotionEvent;
+import android.view.ScaleGestureDetector;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.annotation.GraphicsMode;
+
+import java.io.IOException;
+
+/**
+ * The touch callbacks run on every frame of a gesture, they must not allocate.
+ * <p>
+ * Needs the native graphics mode, where {@link android.graphics.Matrix} is backed by the real native code.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+@GraphicsMode(GraphicsMode.Mode.NATIVE)
+public class GestureAllocationTest {
+    private static final int PAGE_COUNT = 20;
+    private static final int PINCH_FRAMES = 30;
+    private static final int SCROLL_FRAMES = 40;
+    private static final float PINCH_FACTOR = 1.01f;
+    /**
+     * Small enough to stay on the pages already laid out, binding a new page is not a per-frame cost.
+     */
+    private static final int SCROLL_STEP = 2;
+
+    @Test
+    public void pinchAndScrollFramesAllocateNothing() throws IOException {
+        assumeTrue(AllocationCounter.isSupported());
+
+        var fixture = new ViewerFixture(FakeDocumentRenderer.Factory.manual(PAGE_COUNT));
+        var view = fixture.getView();
+        var scaleListener = view.new ScaleListener();
+        var gestureListener = view.new GestureListener();
+        var detector = new FixedScaleDetector(view.getContext(), scaleListener);
+        var x = view.getWidth() / 2f;
+        var y = view.getHeight() / 2f;
+        var down = MotionEvent.obtain(0, 0, MotionEvent.ACTION_DOWN, x, y, 0);
+        var move = MotionEvent.obtain(0, 16, MotionEvent.ACTION_MOVE, x, y - SCROLL_STEP, 0);
+
+        Runnable frame = () -> {
+            scaleListener.onScale(detector);
+            gestureListener.onScroll(down, move, 0, SCROLL_STEP);
+            view.scrollBy(0, SCROLL_STEP);
+        };
+        Runnable gesture = () -> {
+            for (int i = 0; i < PINCH_FRAMES; i++) {
+                scaleListener.onScale(detector);
+            }
+            for (int i = 0; i < SCROLL_FRAMES; i++) {
+                gestureListener.onScroll(down, move, 0, SCROLL_STEP);
+                view.scrollBy(0, SCROLL_STEP);
+            }
+        };
+
+        // Twice without running the looper, so the pending invalidation list already fits a whole gesture.
+        // Settling delivers the pages prefetched by the first scroll.
+        gesture.run();
+        gesture.run();
+        fixture.settle();
+
+        // The first frame schedules the next vsync, which belongs to the looper and not to the gesture
+        frame.run();
+        var allocated = new AllocationCounter().measure(gesture);
+
+        down.recycle();
+        move.recycle();
+        view.release();
+
+        assertEquals("Bytes allocated by the gesture callbacks", 0, allocated);
+    }
+
+    /**
+     * Reports the same scale factor on every frame, like a steady pinch.
+     */
+    private static class FixedScaleDetector extends ScaleGestureDetector {
+        FixedScaleDetector(Context context, OnScaleGestureListener listener) {
+            super(context, listener);
+        }
+
+        @Override
+        public float getScaleFactor() {
+            return PINCH_FACTOR;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+// MIT License
+
+// Copyright (c) 2026 Douglas Nassif Roma Junior
+
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.github.douglasjunior.reactNativePdfRenderer.modules;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import android.graphics.Matrix;
+
+import org.junit.Test;
+
+/**
+ * Runs on a plain JVM: the matrix constants are inlined at compile time, so no Android class is loaded.
+ */
+public class MatrixLimitsTest {
+    private static final float MIN_ZOOM = 1;
+    private static final float MAX_ZOOM = 5;
+    private static final int WIDTH = 1080;
+    private static final int HEIGHT = 1920;
+
+    private static float[] identity() {
+        return new float[]{1, 0, 0, 0, 1, 0, 0, 0, 1};
+    }
+
+    @Test
+    public void clampKeepsTheZoomedContentOnScreen() {
+        var values = identity();
+        values[Matrix.MSCALE_X] = 8;
+        values[Matrix.MSCALE_Y] = 8;
+        values[Matrix.MTRANS_X] = 100;
+        values[Matrix.MTRANS_Y] = -100_000;
+
+        MatrixLimits.clamp(values, MIN_ZOOM, MAX_ZOOM, WIDTH, HEIGHT);
+
+        assertEquals(MAX_ZOOM, values[Matrix.MSCALE_X], 0);
+        assertEquals(MAX_ZOOM, values[Matrix.MSCALE_Y], 0);
+        assertEquals(0, values[Matrix.MTRANS_X], 0);
+        assertEquals(HEIGHT - HEIGHT * MAX_ZOOM, values[Matrix.MTRANS_Y], 0);
+    }
+
+    @Test
+    public void scrollingInsideZoomedAreaOnlyBetweenTheEdges() {
+        var values = identity();
+        assertFalse(MatrixLimits.isInsideZoomedArea(values, MIN_ZOOM, MAX_ZOOM, HEIGHT));
+
+        values[Matrix.MSCALE_Y] = 2;
+        values[Matrix.MTRANS_Y] = -HEIGHT / 2f;
+        assertTrue(MatrixLimits.isInsideZoomedArea(values, MIN_ZOOM, MAX_ZOOM, HEIGHT));
+
+        values[Matrix.MTRANS_Y] = -HEIGHT;
+        assertFalse(MatrixLimits.isInsideZoomedArea(values, MIN_ZOOM, MAX_ZOOM, HEIGHT));
+    }
+}
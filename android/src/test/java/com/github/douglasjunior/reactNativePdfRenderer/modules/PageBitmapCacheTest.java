@@ -0,0 +1,90 @@
+// MIT License
+
+// Copyright (c) 2026 Douglas Nassif Roma Junior
+
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.github.douglasjunior.reactNativePdfRenderer.modules;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import android.graphics.Bitmap;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.annotation.GraphicsMode;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+@GraphicsMode(GraphicsMode.Mode.NATIVE)
+public class PageBitmapCacheTest {
+    private static final String DOCUMENT = "document";
+    private static final int PAGE_SIZE = 16;
+    /**
+     * Room for two pages.
+     */
+    private static final int MAX_SIZE = PAGE_SIZE * PAGE_SIZE * 4 * 2;
+
+    private static Bitmap createPage() {
+        return Bitmap.createBitmap(PAGE_SIZE, PAGE_SIZE, Bitmap.Config.ARGB_8888);
+    }
+
+    @Test
+    public void containsDoesNotCountAsAHit() {
+        var cache = new PageBitmapCache(MAX_SIZE);
+        cache.put(DOCUMENT, 0, 0, createPage());
+
+        assertTrue(cache.contains(DOCUMENT, 0, 0));
+        assertFalse(cache.contains(DOCUMENT, 1, 0));
+        assertEquals(0, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+    }
+
+    @Test
+    public void containsKeepsTheLruOrder() {
+        var cache = new PageBitmapCache(MAX_SIZE);
+        cache.put(DOCUMENT, 0, 0, createPage());
+        cache.put(DOCUMENT, 1, 0, createPage());
+
+        assertTrue(cache.contains(DOCUMENT, 0, 0));
+        cache.put(DOCUMENT, 2, 0, createPage());
+
+        // The probed page is still the least recently used one
+        assertFalse(cache.contains(DOCUMENT, 0, 0));
+        assertNull(cache.get(DOCUMENT, 0, 0));
+        assertNotNull(cache.get(DOCUMENT, 1, 0));
+    }
+
+    @Test
+    public void evictedPagesAreNotContained() {
+        var cache = new PageBitmapCache(MAX_SIZE);
+        cache.put(DOCUMENT, 0, 0, createPage());
+        cache.put(DOCUMENT, 0, 0, createPage());
+        assertTrue(cache.contains(DOCUMENT, 0, 0));
+
+        cache.evictDocument(DOCUMENT);
+        assertFalse(cache.contains(DOCUMENT, 0, 0));
+    }
+}
@@ -0,0 +1,73 @@
+// MIT License
+
+// Copyright (c) 2026 Douglas Nassif Roma Junior
+
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.github.douglasjunior.reactNativePdfRenderer.modules;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import android.view.ViewGroup;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.annotation.GraphicsMode;
+
+import java.io.IOException;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+@GraphicsMode(GraphicsMode.Mode.NATIVE)
+public class PdfRendererRecyclerViewTest {
+    private static final int PAGE_COUNT = 20;
+
+    @Test
+    public void releaseFreesTheDisplayedPages() throws IOException {
+        var fixture = new ViewerFixture(FakeDocumentRenderer.Factory.manual(PAGE_COUNT));
+        var pageCache = fixture.getRegistry().getPageCache();
+        assertTrue(pageCache.getDisplayedCount() > 0);
+
+        // Like React Native, the view is removed before being dropped
+        fixture.detach();
+        fixture.getView().release();
+        fixture.settle();
+
+        assertEquals(0, pageCache.getDisplayedCount());
+        assertEquals(0, pageCache.getAllocatedBytes());
+    }
+
+    @Test
+    public void reattachDisplaysThePagesAgain() throws IOException {
+        var fixture = new ViewerFixture(FakeDocumentRenderer.Factory.manual(PAGE_COUNT));
+        var view = fixture.getView();
+        var parent = (ViewGroup) view.getParent();
+        var pageCache = fixture.getRegistry().getPageCache();
+
+        fixture.detach();
+        assertEquals(0, pageCache.getDisplayedCount());
+
+        parent.addView(view);
+        fixture.waitUntil(() -> pageCache.getDisplayedCount() > 0);
+        view.release();
+    }
+}
@@ -0,0 +1,379 @@
+// MIT License
+
+// Copyright (c) 2026 Douglas Nassif Roma Junior
+
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.github.douglasjunior.reactNativePdfRenderer.modules;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.graphics.Bitmap;
+import android.os.Looper;
+import android.view.MotionEvent;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.annotation.GraphicsMode;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Benchmarks of the render path on a synthetic document of {@link #PAGE_COUNT} pages, rendered by a
+ * {@link FakeDocumentRenderer}, so they measure the work of the viewer around the native renderer.
+ * <p>
+ * Each workload runs {@link #ITERATIONS} times and the fastest run is reported. The results are written
+ * as JSON to the file of the {@code renderBenchmarkOutput} system property, to be tracked over time.
+ * Left out of the unit tests, they run with {@code ./gradlew renderBenchmarks}.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+@GraphicsMode(GraphicsMode.Mode.NATIVE)
+public class RenderBenchmarkTest {
+    private static final int PAGE_COUNT = 600;
+    private static final int ITERATIONS = 5;
+    private static final int VIEW_WIDTH = 1080;
+    private static final int SPACING = 16;
+    /**
+     * Pages on the screen or bound ahead by the RecyclerView while scrolling.
+     */
+    private static final int DISPLAYED_PAGES = 3;
+    private static final int CACHE_SIZE = 48 * 1024 * 1024;
+    private static final float MAX_PAGE_RESOLUTION = 2048;
+    private static final int BITMAPS_PER_ZOOM = 50;
+    private static final int SCROLL_FRAMES = 120;
+    /**
+     * Longer than the delays of the zoom and of the tiles of the viewer.
+     */
+    private static final long ZOOM_SETTLE_MS = 300;
+    private static final String DOCUMENT = "/data/user/0/app/cache/manual.pdf:52428800:1760000000000";
+
+    private static final List<String> sResults = new ArrayList<>();
+
+    private static PageSizeIndex createDocument() {
+        return FakeDocumentRenderer.Factory.manual(PAGE_COUNT).createPageSizes();
+    }
+
+    @Test
+    public void pageOffsetsWithTwoViewers() {
+        var pageSizes = createDocument();
+        var lookups = PAGE_COUNT * 100;
+        long checksum = 0;
+        var best = Long.MAX_VALUE;
+        for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+            var start = System.nanoTime();
+            for (int i = 0; i < lookups; i++) {
+                // Two viewers of the same document with different widths, like in split screen
+                var position = i % PAGE_COUNT;
+                checksum += pageSizes.getItemOffset(position, VIEW_WIDTH, SPACING);
+                checksum += pageSizes.getItemOffset(position, VIEW_WIDTH / 2, SPACING);
+            }
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        assertTrue(checksum > 0);
+        var lastOffset = pageSizes.getItemOffset(PAGE_COUNT - 1, VIEW_WIDTH, SPACING);
+        assertEquals(PAGE_COUNT - 1, pageSizes.findPosition(lastOffset, VIEW_WIDTH, SPACING));
+        record("pageOffsetsWithTwoViewers", lookups * 2, best, "");
+    }
+
+    @Test
+    public void bitmapPoolScroll() {
+        var pageSizes = createDocument();
+        var best = Long.MAX_VALUE;
+        BitmapPool pool = null;
+        for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+            pool = new BitmapPool(CACHE_SIZE);
+            var displayed = new ArrayDeque<Bitmap>();
+            var start = System.nanoTime();
+            for (int position = 0; position < PAGE_COUNT; position++) {
+                var height = pageSizes.getItemHeight(position, VIEW_WIDTH);
+                var bitmap = pool.get(VIEW_WIDTH, height, Bitmap.Config.ARGB_8888);
+                if (bitmap == null) {
+                    bitmap = Bitmap.createBitmap(VIEW_WIDTH, height, Bitmap.Config.ARGB_8888);
+                }
+                displayed.addLast(bitmap);
+                // The pages scrolled out of the screen go back to the pool
+                if (displayed.size() > DISPLAYED_PAGES) {
+                    pool.put(displayed.removeFirst());
+                }
+            }
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        var hitRate = getRate(pool.getHitCount(), pool.getMissCount());
+        // Only the first pages of each size class are allocated
+        assertTrue("Bitmap pool hit rate " + hitRate, hitRate > 0.9f);
+        record("bitmapPoolScroll", PAGE_COUNT, best, String.format(Locale.ROOT,
+                ", \"hitRate\": %.4f, \"allocations\": %d", hitRate, pool.getMissCount()));
+    }
+
+    @Test
+    public void pageCacheScrollAndBack() {
+        var pageSizes = createDocument();
+        var backPages = 20;
+        var best = Long.MAX_VALUE;
+        PageBitmapCache cache = null;
+        int backHits = 0;
+        for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+            cache = new PageBitmapCache(CACHE_SIZE);
+            var displayed = new ArrayDeque<Bitmap>();
+            backHits = 0;
+            var start = System.nanoTime();
+            for (int position = 0; position < PAGE_COUNT; position++) {
+                display(cache, pageSizes, displayed, position);
+            }
+            for (int position = PAGE_COUNT - 1; position >= PAGE_COUNT - backPages; position--) {
+                if (cache.get(DOCUMENT, position, 0) != null) {
+                    backHits++;
+                }
+                display(cache, pageSizes, displayed, position);
+            }
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        var maxPageBytes = (long) VIEW_WIDTH * pageSizes.getItemHeight(0, VIEW_WIDTH) * 4;
+        // Bounded by the cache, its pool and the displayed pages, whatever the length of the document
+        assertTrue(cache.getAllocatedBytes() <= CACHE_SIZE + CACHE_SIZE / 4 + DISPLAYED_PAGES * maxPageBytes);
+        assertTrue(backHits > 0);
+        record("pageCacheScrollAndBack", PAGE_COUNT + backPages, best, String.format(Locale.ROOT,
+                ", \"backHitRate\": %.4f, \"poolHitRate\": %.4f, \"allocatedBytes\": %d",
+                (float) backHits / backPages,
+                getRate(cache.getPool().getHitCount(), cache.getPool().getMissCount()),
+                cache.getAllocatedBytes()));
+    }
+
+    @Test
+    public void diskCacheKeys() {
+        var best = Long.MAX_VALUE;
+        var documentKey = PageDiskCache.getDocumentKey(DOCUMENT);
+        var length = 0;
+        for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+            var start = System.nanoTime();
+            for (int position = 0; position < PAGE_COUNT; position++) {
+                length += PageDiskCache.getKey(documentKey, position, 0, "0-2048").length();
+            }
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        assertTrue(length > 0);
+        record("diskCacheKeyPerBind", PAGE_COUNT, best, "");
+
+        best = Long.MAX_VALUE;
+        for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+            var start = System.nanoTime();
+            for (int position = 0; position < PAGE_COUNT; position++) {
+                length += CacheKeys.hash(DOCUMENT + ":" + position).length();
+            }
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        record("cacheKeysHash", PAGE_COUNT, best, "");
+    }
+
+    /**
+     * Main thread cost of binding the pages while scrolling: cache lookups, layout and render job submission.
+     */
+    @Test
+    public void bindThroughput() throws IOException {
+        var fixture = new ViewerFixture(FakeDocumentRenderer.Factory.manual(PAGE_COUNT));
+        var adapter = fixture.getAdapter();
+        var holder = adapter.onCreateViewHolder(fixture.getView(), 0);
+        var best = Long.MAX_VALUE;
+        for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+            var start = System.nanoTime();
+            for (int position = 0; position < PAGE_COUNT; position++) {
+                adapter.onBindViewHolder(holder, position);
+            }
+            best = Math.min(best, System.nanoTime() - start);
+            holder.recycle();
+            fixture.settle();
+        }
+        fixture.getView().release();
+        record("bindThroughput", PAGE_COUNT, best, "");
+    }
+
+    /**
+     * Page bitmaps taken from the pool, at the zoom buckets used by the renders.
+     */
+    @Test
+    public void createBitmapPerZoom() throws IOException {
+        var fixture = new ViewerFixture(FakeDocumentRenderer.Factory.manual(PAGE_COUNT));
+        var adapter = fixture.getAdapter();
+        var pool = fixture.getRegistry().getPageCache().getPool();
+        for (var zoomBucket : new int[]{0, 2, 4}) {
+            var zoom = PageBitmapCache.getBucketZoom(zoomBucket);
+            var hits = pool.getHitCount();
+            var misses = pool.getMissCount();
+            var best = Long.MAX_VALUE;
+            for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+                var start = System.nanoTime();
+                for (int i = 0; i < BITMAPS_PER_ZOOM; i++) {
+                    var bitmap = adapter.createBitmap(zoom, 612, 792, MAX_PAGE_RESOLUTION, 1, Bitmap.Config.ARGB_8888);
+                    pool.put(bitmap);
+                }
+                best = Math.min(best, System.nanoTime() - start);
+            }
+            record("createBitmapZoom" + zoomBucket, BITMAPS_PER_ZOOM, best, String.format(Locale.ROOT,
+                    ", \"poolHitRate\": %.4f",
+                    getRate(pool.getHitCount() - hits, pool.getMissCount() - misses)));
+        }
+        fixture.getView().release();
+    }
+
+    /**
+     * Renders after a double tap zoom, from the end of the zoom delays to the last tile rendered.
+     */
+    @Test
+    public void zoomReRender() throws IOException {
+        var fixture = new ViewerFixture(FakeDocumentRenderer.Factory.manual(PAGE_COUNT));
+        var view = fixture.getView();
+        var rendererFactory = fixture.getRendererFactory();
+        var gestures = view.new GestureListener();
+        var tap = MotionEvent.obtain(0, 0, MotionEvent.ACTION_DOWN, view.getWidth() / 2f, view.getHeight() / 2f, 0);
+        var best = Long.MAX_VALUE;
+        var renders = 0;
+        for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+            // Zooms in, the render waits for the zoom to settle
+            gestures.onDoubleTap(tap);
+            var renderedPages = rendererFactory.getRenderedPages();
+            var start = System.nanoTime();
+            shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(ZOOM_SETTLE_MS));
+            fixture.settle();
+            best = Math.min(best, rendererFactory.getLastRenderNanos() - start);
+            renders = rendererFactory.getRenderedPages() - renderedPages;
+
+            // Zooms back out, dropping the tiles
+            gestures.onDoubleTap(tap);
+            shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(ZOOM_SETTLE_MS));
+            fixture.settle();
+        }
+        tap.recycle();
+        fixture.getView().release();
+
+        assertTrue(renders > 0);
+        record("zoomReRender", 1, best, String.format(Locale.ROOT, ", \"renders\": %d", renders));
+    }
+
+    /**
+     * Scroll frames inside the zoomed area: the gesture callback with the matrix limits, then the layout scroll.
+     */
+    @Test
+    public void scrollFrames() throws IOException {
+        var fixture = new ViewerFixture(FakeDocumentRenderer.Factory.manual(PAGE_COUNT));
+        var view = fixture.getView();
+        var gestures = view.new GestureListener();
+        var down = MotionEvent.obtain(0, 0, MotionEvent.ACTION_DOWN, view.getWidth() / 2f, view.getHeight() / 2f, 0);
+        var move = MotionEvent.obtain(0, 16, MotionEvent.ACTION_MOVE, view.getWidth() / 2f, view.getHeight() / 2f - 4, 0);
+        gestures.onDoubleTap(down);
+        shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(ZOOM_SETTLE_MS));
+        fixture.settle();
+
+        Runnable frame = () -> {
+            gestures.onScroll(down, move, 0, 4);
+            view.scrollBy(0, 4);
+        };
+        var counter = AllocationCounter.isSupported() ? new AllocationCounter() : null;
+        var best = Long.MAX_VALUE;
+        var allocatedBytes = -1L;
+        for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+            long elapsed = 0;
+            long allocated = 0;
+            for (int i = 0; i < SCROLL_FRAMES; i++) {
+                var start = System.nanoTime();
+                if (counter != null) {
+                    allocated += counter.measure(frame);
+                } else {
+                    frame.run();
+                }
+                elapsed += System.nanoTime() - start;
+                // The frame callbacks and the invalidations run between the frames, like on a device
+                shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(16));
+            }
+            best = Math.min(best, elapsed);
+            if (counter != null) {
+                allocatedBytes = allocated;
+            }
+        }
+        down.recycle();
+        move.recycle();
+        fixture.getView().release();
+
+        record("scrollFrame", SCROLL_FRAMES, best, String.format(Locale.ROOT,
+                ", \"allocatedBytes\": %d", allocatedBytes));
+    }
+
+    /**
+     * Shows the page from the cache or renders it, like a bind, releasing the page that scrolled away.
+     */
+    private static void display(PageBitmapCache cache, PageSizeIndex pageSizes, ArrayDeque<Bitmap> displayed, int position) {
+        var bitmap = cache.get(DOCUMENT, position, 0);
+        if (bitmap == null) {
+            var height = pageSizes.getItemHeight(position, VIEW_WIDTH);
+            bitmap = cache.getPool().get(VIEW_WIDTH, height, Bitmap.Config.ARGB_8888);
+            if (bitmap == null) {
+                bitmap = Bitmap.createBitmap(VIEW_WIDTH, height, Bitmap.Config.ARGB_8888);
+            }
+            cache.put(DOCUMENT, position, 0, bitmap);
+        }
+        cache.acquire(bitmap);
+        displayed.addLast(bitmap);
+        if (displayed.size() > DISPLAYED_PAGES) {
+            cache.release(displayed.removeFirst());
+        }
+    }
+
+    private static float getRate(int hits, int misses) {
+        return hits + misses == 0 ? 0 : (float) hits / (hits + misses);
+    }
+
+    /**
+     * @param extraFields more JSON fields of the result, each one starting with a comma.
+     */
+    private static void record(String name, int operations, long nanos, String extraFields) {
+        sResults.add(String.format(Locale.ROOT,
+                "    {\"name\": \"%s\", \"operations\": %d, \"totalNanos\": %d, \"nanosPerOperation\": %.1f%s}",
+                name, operations, nanos, (double) nanos / operations, extraFields));
+        writeResults();
+    }
+
+    /**
+     * Rewritten after every benchmark, so the file is complete whatever the order and the filter of the tests.
+     */
+    private static void writeResults() {
+        var file = new File(System.getProperty("renderBenchmarkOutput", "build/reports/render-benchmarks.json"));
+        var parent = file.getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) return;
+        try (var writer = new FileWriter(file)) {
+            writer.write(String.format(Locale.ROOT, "{\n  \"pageCount\": %d,\n  \"iterations\": %d,\n  \"results\": [\n%s\n  ]\n}\n",
+                    PAGE_COUNT, ITERATIONS, String.join(",\n", sResults)));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+// MIT License
+
+// Copyright (c) 2026 Douglas Nassif Roma Junior
+
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.github.douglasjunior.reactNativePdfRenderer.modules;
+
+import static org.robolectric.Shadows.shadowOf;
+
+import android.app.Activity;
+import android.content.Context;
+import android.os.Looper;
+import android.view.ViewGroup;
+
+import androidx.annotation.NonNull;
+
+import org.robolectric.Robolectric;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+
+/**
+ * A {@link PdfRendererRecyclerView} attached to an activity, showing a document of a {@link FakeDocumentRenderer}.
+ * <p>
+ * The main looper is driven by hand, so it must be used from a Robolectric test in paused looper mode.
+ */
+class ViewerFixture implements PdfRendererRecyclerView.PdfRendererRecyclerViewListener {
+    private static final long TIMEOUT_MS = 10_000;
+    private static final long FRAME_MS = 16;
+    /**
+     * Frames without any new render before the viewer is considered settled.
+     */
+    private static final int SETTLE_FRAMES = 10;
+
+    private final FakeDocumentRenderer.Factory mRendererFactory;
+    private final DocumentRegistry mRegistry;
+    private final PdfRendererRecyclerView mView;
+    private boolean mLoaded;
+
+    ViewerFixture(@NonNull FakeDocumentRenderer.Factory rendererFactory) throws IOException {
+        mRendererFactory = rendererFactory;
+        mRegistry = new DocumentRegistry(rendererFactory);
+        var activity = Robolectric.buildActivity(Activity.class).setup().get();
+        mView = new PdfRendererRecyclerView(activity, this, mRegistry);
+        mView.setMaxPageResolution(2048);
+        mView.setDistanceBetweenPages(16);
+        activity.setContentView(mView);
+
+        mView.updateSource(createSource(activity), () -> {
+            throw new AssertionError("Unable to open the document");
+        });
+        waitUntil(() -> mLoaded);
+        settle();
+    }
+
+    /**
+     * @return a new file source, with an identity of its own. Its content is never read by the fake renderer.
+     */
+    static PdfSource createSource(@NonNull Context context) throws IOException {
+        var file = File.createTempFile("document", ".pdf", context.getCacheDir());
+        try (var output = new FileOutputStream(file)) {
+            output.write("%PDF-1.7".getBytes());
+        }
+        return PdfSource.from(context, file.getAbsolutePath());
+    }
+
+    FakeDocumentRenderer.Factory getRendererFactory() {
+        return mRendererFactory;
+    }
+
+    DocumentRegistry getRegistry() {
+        return mRegistry;
+    }
+
+    PdfRendererRecyclerView getView() {
+        return mView;
+    }
+
+    PdfRendererRecyclerView.PdfRendererAdapter getAdapter() {
+        return (PdfRendererRecyclerView.PdfRendererAdapter) mView.getAdapter();
+    }
+
+    /**
+     * Removes the view from the activity, like React Native does before dropping it.
+     */
+    void detach() {
+        ((ViewGroup) mView.getParent()).removeView(mView);
+        idle();
+    }
+
+    /**
+     * Runs the main looper for one frame and gives some time to the render threads.
+     */
+    void idle() {
+        shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(FRAME_MS));
+        try {
+            Thread.sleep(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    void waitUntil(@NonNull BooleanSupplier condition) {
+        var deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("Timed out waiting for the viewer");
+            }
+            idle();
+        }
+    }
+
+    /**
+     * Runs the main looper until the render threads stop delivering pages.
+     */
+    void settle() {
+        var renderedPages = new int[]{-1};
+        var stableFrames = new int[]{0};
+        waitUntil(() -> {
+            var current = mRendererFactory.getRenderedPages();
+            stableFrames[0] = current == renderedPages[0] ? stableFrames[0] + 1 : 0;
+            renderedPages[0] = current;
+            return stableFrames[0] >= SETTLE_FRAMES;
+        });
+    }
+
+    @Override
+    public void onPageChange(PdfRendererRecyclerView target, int position, int total) {
+    }
+
+    @Override
+    public void onLoadStart(PdfRendererRecyclerView target) {
+    }
+
+    @Override
+    public void onLoadComplete(PdfRendererRecyclerView target, int totalPages, long openMillis) {
+        mLoaded = true;
+    }
+
+    @Override
+    public void onRenderStats(PdfRendererRecyclerView target, RenderStats.Snapshot stats) {
+    }
+
+    @Override
+    public void onMemoryBudgetChange(PdfRendererRecyclerView target, long budget, long pageCacheSize, float renderScale) {
+    }
+
+    @Override
+    public void onViewportChange(PdfRendererRecyclerView target, int firstPage, int lastPage, float[] visibleFractions,
+                                 float zoom, float scrollOffset) {
+    }
+}
@@ -0,0 +1,71 @@
+// MIT License
+
+// Copyright (c) 2026 Douglas Nassif Roma Junior
+
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.github.douglasjunior.reactNativePdfRenderer.modules;
+
+import android.graphics.RectF;
+import android.graphics.pdf.PdfRenderer;
+
+import androidx.annotation.RequiresApi;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Text APIs of {@link PdfRenderer.Page}, added in Android 15 (API 35).
+ * <p>
+ * Only compiled with compileSdk 35 or above, older SDKs get a version without them, see {@code build.gradle}.
+ */
+class PageText {
+    /**
+     * Whether the text APIs were compiled in, the device must still run Android 15 or above.
+     */
+    static final boolean AVAILABLE = true;
+
+    private PageText() {
+    }
+
+    /**
+     * @return the text blocks of the page, one per line.
+     */
+    @RequiresApi(api = 35)
+    static String getText(PdfRenderer.Page page) {
+        var text = new StringBuilder();
+        for (var content : page.getTextContents()) {
+            if (text.length() > 0) text.append('\n');
+            text.append(content.getText());
+        }
+        return text.toString();
+    }
+
+    /**
+     * @return the bounds of every match of the query, in page points.
+     */
+    @RequiresApi(api = 35)
+    static List<RectF> search(PdfRenderer.Page page, String query) {
+        var bounds = new ArrayList<RectF>();
+        for (var match : page.searchText(query)) {
+            bounds.addAll(match.getBounds());
+        }
+        return bounds;
+    }
+}
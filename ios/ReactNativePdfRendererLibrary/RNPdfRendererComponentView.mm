@@ -129,6 +129,19 @@ BOOL observerAdded = NO;
     [super updateProps:props oldProps:oldProps];
 }
 
+- (void)handleCommand:(const NSString *)commandName args:(const NSArray *)args
+{
+    RCTRNPdfRendererViewHandleCommand(self, commandName, args);
+}
+
+- (void)scrollToPage:(NSInteger)index animated:(BOOL)animated
+{
+    if (index < 0 || index >= _pdfView.document.pageCount) {
+        return;
+    }
+    [_pdfView goToPage:[_pdfView.document pageAtIndex:index]];
+}
+
 -(void)layoutSubviews
 {
     [super layoutSubviews];
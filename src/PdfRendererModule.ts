@@ -0,0 +1,227 @@
+// MIT License
+
+// Copyright (c) 2026 Douglas Nassif Roma Junior
+
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+import { NativeEventEmitter, Platform } from 'react-native';
+
+import NativePdfRendererModule from './specs/NativePdfRendererModule';
+
+const RENDER_PAGES_PROGRESS_EVENT = 'RNPdfRendererRenderPagesProgress';
+const SEARCH_RESULT_EVENT = 'RNPdfRendererSearchResult';
+
+let nextJobId = 1;
+let nextSearchId = 1;
+
+export type RenderPagesFormatType = 'png' | 'jpeg' | 'webp';
+
+export type RenderPagesProgressType = {
+  /**
+   * Index of the page just written.
+   */
+  page: number;
+  /**
+   * Number of pages written so far.
+   */
+  completed: number;
+  total: number;
+  /**
+   * `file://` URI of the image of the page.
+   */
+  uri: string;
+};
+
+export type RenderPagesTaskType = {
+  /**
+   * Resolves to the `file://` URIs of the images, in page order.
+   */
+  promise: Promise<string[]>;
+  /**
+   * Stops after the page being rendered, rejecting the promise. The images already written are kept.
+   */
+  cancel: () => void;
+};
+
+export type SearchResultType = {
+  /**
+   * Index of the page with matches.
+   */
+  page: number;
+  /**
+   * Bounds of the matches, as fractions of the page width and height, from the top left corner.
+   */
+  rects: ReadonlyArray<{ x: number; y: number; width: number; height: number }>;
+};
+
+export type SearchTaskType = {
+  /**
+   * Resolves to the number of pages with matches.
+   */
+  promise: Promise<number>;
+  /**
+   * Stops the search, rejecting the promise. The results already delivered are kept.
+   */
+  cancel: () => void;
+};
+
+const getNativeModule = () => {
+  if (!NativePdfRendererModule) {
+    throw new Error(
+      `react-native-pdf-renderer: The native module is not available on ${Platform.OS}.`,
+    );
+  }
+  return NativePdfRendererModule;
+};
+
+/**
+ * (Android only)
+ *
+ * Renders a page of the PDF to an image, without mounting a `PdfRendererView`.
+ *
+ * The images are cached on disk by file, page and width, so each thumbnail is only rendered once
+ * while the file is not modified. Concurrent requests for the same thumbnail share the same render.
+ *
+ * @param source path of the PDF file, a `content://` URI or an `asset://` path
+ * @param page index of the page, starting at `0`
+ * @param width width in pixels of the image, the height follows the page aspect ratio
+ * @returns `file://` URI of the image
+ */
+export const generateThumbnail = async (
+  source: string,
+  page = 0,
+  width = 256,
+): Promise<string> => {
+  return getNativeModule().generateThumbnail(source, page, width);
+};
+
+/**
+ * (Android only)
+ *
+ * Renders a range of pages of the PDF to image files, one page at a time, without mounting a `PdfRendererView`.
+ *
+ * The images are written to the app cache directory, move them somewhere else to keep them.
+ *
+ * @param source path of the PDF file, a `content://` URI or an `asset://` path
+ * @param pageRange indexes of the first and the last pages, starting at `0`. Omit `last` to render until the end.
+ * @param dpi resolution of the images, `72` renders one pixel per PDF point
+ * @param format format of the images
+ * @param onProgress invoked after each page is written, in completion order
+ * @param renderThreads number of pages rendered in parallel, limited by the CPU cores and the available memory
+ */
+export const renderPages = (
+  source: string,
+  pageRange: { first?: number; last?: number } = {},
+  dpi = 144,
+  format: RenderPagesFormatType = 'png',
+  onProgress?: (progress: RenderPagesProgressType) => void,
+  renderThreads = 1,
+): RenderPagesTaskType => {
+  const jobId = nextJobId++;
+
+  const promise = (async () => {
+    const nativeModule = getNativeModule();
+    const subscription = onProgress
+      ? new NativeEventEmitter(nativeModule).addListener(
+          RENDER_PAGES_PROGRESS_EVENT,
+          ({ jobId: eventJobId, ...progress }) => {
+            if (eventJobId === jobId) {
+              onProgress(progress as RenderPagesProgressType);
+            }
+          },
+        )
+      : undefined;
+    try {
+      return await nativeModule.renderPages(
+        jobId,
+        source,
+        pageRange.first ?? 0,
+        pageRange.last ?? -1,
+        dpi,
+        format,
+        renderThreads,
+      );
+    } finally {
+      subscription?.remove();
+    }
+  })();
+
+  return {
+    promise,
+    cancel: () => NativePdfRendererModule?.cancelRenderPages(jobId),
+  };
+};
+
+/**
+ * (Android 15+ only)
+ *
+ * Extracts the text of a page of the PDF, without mounting a `PdfRendererView`.
+ *
+ * The text of the document is indexed in background on first use and cached on disk, while the file is not modified.
+ *
+ * @param source path of the PDF file, a `content://` URI or an `asset://` path
+ * @param page index of the page, starting at `0`
+ */
+export const getPageText = async (source: string, page: number): Promise<string> => {
+  return getNativeModule().getPageText(source, page);
+};
+
+/**
+ * (Android 15+ only)
+ *
+ * Searches a text in the PDF, case insensitive, delivering the pages with matches in page order as they are found.
+ *
+ * The pages that cannot contain the text are skipped using the index of the document, built in background
+ * on first use and cached on disk.
+ *
+ * @param source path of the PDF file, a `content://` URI or an `asset://` path
+ * @param query text to search
+ * @param onResult invoked for each page with matches
+ */
+export const search = (
+  source: string,
+  query: string,
+  onResult?: (result: SearchResultType) => void,
+): SearchTaskType => {
+  const searchId = nextSearchId++;
+
+  const promise = (async () => {
+    const nativeModule = getNativeModule();
+    const subscription = onResult
+      ? new NativeEventEmitter(nativeModule).addListener(
+          SEARCH_RESULT_EVENT,
+          ({ searchId: eventSearchId, ...result }) => {
+            if (eventSearchId === searchId) {
+              onResult(result as SearchResultType);
+            }
+          },
+        )
+      : undefined;
+    try {
+      return await nativeModule.search(searchId, source, query);
+    } finally {
+      subscription?.remove();
+    }
+  })();
+
+  return {
+    promise,
+    cancel: () => NativePdfRendererModule?.cancelSearch(searchId),
+  };
+};
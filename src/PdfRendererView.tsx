@@ -20,15 +20,107 @@
 // OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
 // SOFTWARE.
 
-import React, { useCallback, useMemo } from 'react';
+import React, {
+  forwardRef,
+  useCallback,
+  useImperativeHandle,
+  useMemo,
+  useRef,
+} from 'react';
 import {
   NativeSyntheticEvent,
+  Platform,
   StyleProp,
   StyleSheet,
   ViewStyle,
 } from 'react-native';
 
-import PdfRendererNative, { NativeParams } from './specs/RNPdfRendererViewNativeComponent';
+import PdfRendererNative, {
+  Commands,
+  MemoryBudgetEventPayload,
+  NativeParams,
+  RenderStatsEventPayload,
+  ViewportEventPayload,
+} from './specs/RNPdfRendererViewNativeComponent';
+
+export type RenderStatsType = {
+  /**
+   * Time in milliseconds spent opening the document, or `-1` if not opened yet.
+   */
+  openMillis: number;
+  /**
+   * Number of page renders per latency bucket: `<8ms`, `<16ms`, `<33ms`, `<66ms`, `<133ms`, `<266ms`, `<533ms` and `>=533ms`.
+   */
+  renderLatencyHistogram: ReadonlyArray<number>;
+  renderLatencyAverage: number;
+  completedRenders: number;
+  /**
+   * Renders cancelled before finishing, because the page was scrolled away.
+   */
+  cancelledRenders: number;
+  /**
+   * Renders finished but discarded, because the page was scrolled away or the document closed.
+   */
+  droppedRenders: number;
+  /**
+   * Bytes of the page bitmaps currently allocated: displayed, cached or waiting to be reused.
+   *
+   * The page cache is shared by all the viewers, so this includes the pages of the other viewers.
+   */
+  bitmapBytes: number;
+  /**
+   * Ratio between `0` and `1` of the pages displayed from the cache, by all the viewers.
+   */
+  cacheHitRate: number;
+};
+
+export type MemoryBudgetType = {
+  /**
+   * Bytes of rendered pages that all the viewers together can keep in memory.
+   */
+  budget: number;
+  /**
+   * Bytes of rendered pages that this viewer can keep in memory.
+   */
+  pageCacheSize: number;
+  /**
+   * Factor applied to the page resolution, below `1` while the system is low on memory.
+   */
+  renderScale: number;
+};
+
+export type ViewportType = {
+  /**
+   * Index of the first page with a visible area, starting at `0`.
+   */
+  firstVisiblePage: number;
+  /**
+   * Index of the last page with a visible area.
+   */
+  lastVisiblePage: number;
+  /**
+   * Fraction of the area of each page that is visible, from `firstVisiblePage` to `lastVisiblePage`.
+   */
+  visibleFractions: ReadonlyArray<number>;
+  zoom: number;
+  /**
+   * Top of the visible area in the document, in dp (density-independent pixels) at zoom `1`.
+   */
+  scrollOffset: number;
+};
+
+export type PdfRendererViewRefType = {
+  /**
+   * (Android only)
+   *
+   * Scrolls to the top of the page. Long jumps go straight to the destination,
+   * without rendering the pages in between.
+   *
+   * @param index index of the page, starting at `0`
+   * @param animated animates the scroll, default `true`
+   */
+  scrollToPage: (index: number, animated?: boolean) => void;
+};
 
 export type PdfRendererViewPropsType = {
   testID?: string;
@@ -42,6 +134,8 @@ export type PdfRendererViewPropsType = {
    * Path to a file stored on device.
    *
    * Ex.: `file:///path/to/file.pdf`
+   *
+   * On Android, `content://` URIs and `asset://` paths of the app assets are also accepted.
    */
   source?: string;
   /**
@@ -63,9 +157,65 @@ export type PdfRendererViewPropsType = {
    *
    * Defined to prevent Android crash when zooming too much: https://github.com/douglasjunior/react-native-pdf-renderer/issues/26
    *
+   * When scrolling through pages, the zoomed area is rendered in tiles over the page, so this limit only applies to `singlePage` mode and to the page below the tiles.
+   *
    * Default: 2048
    */
   maxPageResolution?: number;
+  /**
+   * (Android only)
+   *
+   * Max size in bytes of the rendered pages kept in memory to avoid rendering them again when scrolling back.
+   *
+   * Use `0` to let the library decide based on the available memory (1/8 of the app heap, shared by all the viewers).
+   * It is reduced while the system is low on memory.
+   *
+   * Default: 0
+   */
+  maxPageCacheSize?: number;
+  /**
+   * (Android only)
+   *
+   * Number of pages rendered in background ahead of the scroll direction.
+   *
+   * Default: 2
+   */
+  prefetchPages?: number;
+  /**
+   * (Android only)
+   *
+   * Number of pages prefetched in parallel, each one by an independent renderer of the document.
+   *
+   * Limited by the CPU cores and the available memory, every renderer holds a page bitmap while rendering.
+   *
+   * Default: 1
+   */
+  renderThreads?: number;
+  /**
+   * (Android only)
+   *
+   * Keeps the rendered pages on disk, so reopened documents display them without rendering again.
+   *
+   * The pages are stored uncompressed in the app cache directory, limited to 200MB for all the documents.
+   *
+   * Default: false
+   */
+  diskCacheEnabled?: boolean;
+  /**
+   * (Android only)
+   *
+   * Pixel format of the rendered pages.
+   *
+   * - `argb8888`: full color quality.
+   * - `rgb565`: half the memory for the cached pages, with less color depth. Good for black-and-white documents.
+   *   The pages are still rendered in `argb8888` and then converted.
+   * - `auto`: uses `rgb565` for the pages detected as grayscale (like scanned documents) and `argb8888` for the others.
+   *
+   * With less memory per page, more pages fit in the `maxPageCacheSize`.
+   *
+   * Default: 'argb8888'
+   */
+  bitmapFormat?: 'auto' | 'rgb565' | 'argb8888';
   /**
    *
    * Renders only the first page without scroll. (useful for display thumbnail).
@@ -84,6 +234,53 @@ export type PdfRendererViewPropsType = {
    * Invoked when an error occurs.
    */
   onError?: () => void;
+  /**
+   * (Android only)
+   *
+   * Invoked when the document starts opening.
+   */
+  onLoadStart?: () => void;
+  /**
+   * (Android only)
+   *
+   * Invoked when the document is opened and ready to be displayed.
+   *
+   * @param totalPages total pages number
+   * @param openMillis time in milliseconds spent opening the document
+   */
+  onLoadComplete?: (totalPages: number, openMillis: number) => void;
+  /**
+   * (Android only)
+   *
+   * Invoked at most once per second with the render metrics, while pages are rendered.
+   *
+   * The metrics are only reported when this prop is set.
+   */
+  onRenderStats?: (stats: RenderStatsType) => void;
+  /**
+   * (Android only)
+   *
+   * Invoked when the memory available to this viewer changes, like when other viewers are mounted
+   * or the system is low on memory.
+   */
+  onMemoryBudgetChange?: (budget: MemoryBudgetType) => void;
+  /**
+   * (Android only)
+   *
+   * Invoked when the visible pages, the zoom or the scroll offset change, at most once per frame.
+   *
+   * The viewport is only reported when this prop is set.
+   */
+  onViewportChange?: (viewport: ViewportType) => void;
+  /**
+   * (Android only)
+   *
+   * Min interval in milliseconds between the `onViewportChange` events, the latest viewport is reported
+   * at the end of each interval. Use `0` to report at most once per frame.
+   *
+   * Default: 0
+   */
+  viewportChangeThrottle?: number;
 };
 
 type OnPageChangeEventType = {
@@ -91,6 +288,11 @@ type OnPageChangeEventType = {
   total: number;
 };
 
+type OnLoadCompleteEventType = {
+  totalPages: number;
+  openMillis: number;
+};
+
 const styles = StyleSheet.create({
   default: {
     backgroundColor: 'gray',
@@ -98,17 +300,41 @@ const styles = StyleSheet.create({
   },
 });
 
-const PdfRendererView = ({
+const PdfRendererView = forwardRef<PdfRendererViewRefType, PdfRendererViewPropsType>(({
   testID = undefined,
   onPageChange,
   onError = undefined,
+  onLoadStart,
+  onLoadComplete,
+  onRenderStats,
+  onMemoryBudgetChange,
+  onViewportChange,
+  viewportChangeThrottle = 0,
   style,
   source,
   singlePage = false,
   distanceBetweenPages = 16,
   maxZoom = 5,
   maxPageResolution = 2048,
-}: PdfRendererViewPropsType): React.JSX.Element => {
+  maxPageCacheSize = 0,
+  prefetchPages = 2,
+  renderThreads = 1,
+  diskCacheEnabled = false,
+  bitmapFormat = 'argb8888',
+}, ref): React.JSX.Element => {
+  const nativeRef = useRef<React.ElementRef<typeof PdfRendererNative>>(null);
+
+  useImperativeHandle(
+    ref,
+    () => ({
+      scrollToPage: (index: number, animated = true) => {
+        if (Platform.OS !== 'android' || !nativeRef.current) return;
+        Commands.scrollToPage(nativeRef.current, index, animated);
+      },
+    }),
+    [],
+  );
+
   const viewStyles: StyleProp<ViewStyle> = useMemo(
     () => [
       styles.default,
@@ -139,6 +365,38 @@ const PdfRendererView = ({
     onError?.();
   }, [onError]);
 
+  const handleLoadStart = useCallback(() => {
+    onLoadStart?.();
+  }, [onLoadStart]);
+
+  const handleLoadComplete = useCallback(
+    (event: NativeSyntheticEvent<OnLoadCompleteEventType>) => {
+      onLoadComplete?.(event.nativeEvent.totalPages, event.nativeEvent.openMillis);
+    },
+    [onLoadComplete],
+  );
+
+  const handleRenderStats = useCallback(
+    (event: NativeSyntheticEvent<RenderStatsEventPayload>) => {
+      onRenderStats?.(event.nativeEvent);
+    },
+    [onRenderStats],
+  );
+
+  const handleMemoryBudgetChange = useCallback(
+    (event: NativeSyntheticEvent<MemoryBudgetEventPayload>) => {
+      onMemoryBudgetChange?.(event.nativeEvent);
+    },
+    [onMemoryBudgetChange],
+  );
+
+  const handleViewportChange = useCallback(
+    (event: NativeSyntheticEvent<ViewportEventPayload>) => {
+      onViewportChange?.(event.nativeEvent);
+    },
+    [onViewportChange],
+  );
+
   const params: NativeParams = useMemo(
     () => ({
       source,
@@ -150,19 +408,33 @@ const PdfRendererView = ({
 
   return (
     <PdfRendererNative
+      ref={nativeRef}
       testID={testID}
       maxPageResolution={maxPageResolution}
+      maxPageCacheSize={maxPageCacheSize}
+      prefetchPages={prefetchPages}
+      renderThreads={renderThreads}
+      diskCacheEnabled={diskCacheEnabled}
+      bitmapFormat={bitmapFormat}
+      renderStatsEnabled={!!onRenderStats}
+      viewportChangeEnabled={!!onViewportChange}
+      viewportChangeThrottle={viewportChangeThrottle}
       distanceBetweenPages={distanceBetweenPages}
       style={viewStyles}
       params={params}
       onPageChange={handlePageChange}
       onError={handleError}
+      onLoadStart={handleLoadStart}
+      onLoadComplete={handleLoadComplete}
+      onRenderStats={handleRenderStats}
+      onMemoryBudgetChange={handleMemoryBudgetChange}
+      onViewportChange={handleViewportChange}
       // old architecture events for iOS, because iOS require unique names
       // @ts-ignore
       onRnPdfPageChange={handlePageChange}
       onRnPdfError={handleError}
     />
   );
-};
+});
 
 export default PdfRendererView;
@@ -21,4 +21,18 @@
 // SOFTWARE.
 
 export { default } from './PdfRendererView';
-export type { PdfRendererViewPropsType } from './PdfRendererView';
+export type {
+  MemoryBudgetType,
+  PdfRendererViewPropsType,
+  PdfRendererViewRefType,
+  RenderStatsType,
+  ViewportType,
+} from './PdfRendererView';
+export { generateThumbnail, getPageText, renderPages, search } from './PdfRendererModule';
+export type {
+  RenderPagesFormatType,
+  RenderPagesProgressType,
+  RenderPagesTaskType,
+  SearchResultType,
+  SearchTaskType,
+} from './PdfRendererModule';
@@ -20,13 +20,30 @@
 // OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
 // SOFTWARE.
 
-import React from 'react';
+import React, { forwardRef, useImperativeHandle } from 'react';
 
 import { View } from 'react-native';
-import { PdfRendererViewPropsType } from './PdfRendererView';
+import { PdfRendererViewPropsType, PdfRendererViewRefType } from './PdfRendererView';
 
-const PdfRendererViewMock = (props: PdfRendererViewPropsType) => {
+const PdfRendererViewMock = forwardRef<PdfRendererViewRefType, PdfRendererViewPropsType>((props, ref) => {
+  useImperativeHandle(ref, () => ({
+    scrollToPage: () => {},
+  }), []);
   return <View testID={props.testID} style={props.style} />;
-};
+});
+
+export const generateThumbnail = (source: string) => Promise.resolve(source);
+
+export const renderPages = () => ({
+  promise: Promise.resolve([]),
+  cancel: () => {},
+});
+
+export const getPageText = () => Promise.resolve('');
+
+export const search = () => ({
+  promise: Promise.resolve(0),
+  cancel: () => {},
+});
 
 export default PdfRendererViewMock;
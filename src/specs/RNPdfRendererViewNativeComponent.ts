@@ -20,12 +20,16 @@
 // OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
 // SOFTWARE.
 
+import type * as React from 'react';
 import type { HostComponent, ViewProps } from 'react-native';
 import {
   BubblingEventHandler,
+  Double,
   Float,
   Int32,
+  WithDefault,
 } from 'react-native/Libraries/Types/CodegenTypes';
+import codegenNativeCommands from 'react-native/Libraries/Utilities/codegenNativeCommands';
 import codegenNativeComponent from 'react-native/Libraries/Utilities/codegenNativeComponent';
 
 export type NativeParams = {
@@ -39,14 +43,71 @@ type PageChangeEventPayload = {
   total: Int32;
 };
 
+type LoadCompleteEventPayload = {
+  totalPages: Int32;
+  openMillis: Double;
+};
+
+export type RenderStatsEventPayload = {
+  openMillis: Double;
+  renderLatencyHistogram: ReadonlyArray<Int32>;
+  renderLatencyAverage: Double;
+  completedRenders: Int32;
+  cancelledRenders: Int32;
+  droppedRenders: Int32;
+  bitmapBytes: Double;
+  cacheHitRate: Double;
+};
+
+export type MemoryBudgetEventPayload = {
+  budget: Double;
+  pageCacheSize: Double;
+  renderScale: Float;
+};
+
+export type ViewportEventPayload = {
+  firstVisiblePage: Int32;
+  lastVisiblePage: Int32;
+  visibleFractions: ReadonlyArray<Float>;
+  zoom: Float;
+  scrollOffset: Float;
+};
+
 export interface NativeProps extends ViewProps {
   maxPageResolution: Float;
+  maxPageCacheSize: Float;
+  prefetchPages: Int32;
+  renderThreads: Int32;
+  diskCacheEnabled: boolean;
+  renderStatsEnabled: boolean;
+  viewportChangeEnabled: boolean;
+  viewportChangeThrottle: Float;
+  bitmapFormat?: WithDefault<'auto' | 'rgb565' | 'argb8888', 'argb8888'>;
   distanceBetweenPages: Float;
   params: NativeParams;
   onPageChange: BubblingEventHandler<PageChangeEventPayload>;
   onError: BubblingEventHandler<{}>;
+  onLoadStart: BubblingEventHandler<{}>;
+  onLoadComplete: BubblingEventHandler<LoadCompleteEventPayload>;
+  onRenderStats: BubblingEventHandler<RenderStatsEventPayload>;
+  onMemoryBudgetChange: BubblingEventHandler<MemoryBudgetEventPayload>;
+  onViewportChange: BubblingEventHandler<ViewportEventPayload>;
+}
+
+type NativeType = HostComponent<NativeProps>;
+
+interface NativeCommands {
+  scrollToPage: (
+    viewRef: React.ElementRef<NativeType>,
+    index: Int32,
+    animated: boolean,
+  ) => void;
 }
 
+export const Commands: NativeCommands = codegenNativeCommands<NativeCommands>({
+  supportedCommands: ['scrollToPage'],
+});
+
 export default codegenNativeComponent<NativeProps>(
   'RNPdfRendererView',
 ) as HostComponent<NativeProps>;